@@ -0,0 +1,39 @@
+plugins {
+    id("config-kotlin")
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":mirror-core"))
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    (findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+val jmhAllocationCheck by tasks.registering {
+    description = "Fails if a benchmark required to be allocation free allocated."
+    val results = jmh.resultsFile
+    val zeroAllocation = listOf(".PrimitiveAccessBenchmark.")
+    doLast {
+        @Suppress("UNCHECKED_CAST")
+        val benchmarks = groovy.json.JsonSlurper().parse(results.get().asFile) as List<Map<String, Any>>
+        val failures = benchmarks.filter { benchmark -> zeroAllocation.any { (benchmark["benchmark"] as String).contains(it) } }.mapNotNull { benchmark ->
+            @Suppress("UNCHECKED_CAST")
+            val metrics = benchmark["secondaryMetrics"] as Map<String, Map<String, Any>>
+            val allocated = metrics.entries.firstOrNull { it.key.endsWith("gc.alloc.rate.norm") }?.value?.get("score") as Number?
+            if (allocated != null && allocated.toDouble() >= 1.0) "${benchmark["benchmark"]} allocated ${allocated} B/op" else null
+        }
+        if (failures.isNotEmpty()) {
+            throw GradleException(failures.joinToString("\n"))
+        }
+    }
+}
+
+tasks.named("jmh") {
+    finalizedBy(jmhAllocationCheck)
+}
@@ -0,0 +1,124 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolution cost of the fuzzy finders against classes with a lot of
+ * members. Lives in the mirror package to reach {@code find0()} directly,
+ * the JDK owners can't be opened for the handle lookup in {@code find()}.
+ *
+ * <p>The {@code resolve} benchmarks search the owner's shared
+ * {@link MemberIndex}, which is built once and memoizes method queries.
+ * The {@code cold} ones build a new index every invocation, which is what
+ * the first resolution against an owner costs.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResolutionBenchmark {
+
+    @Param({"String", "Character", "ConcurrentHashMap"})
+    public String owner;
+
+    private Class<?> type;
+    private FuzzyMethodFinderImpl exactMethod;
+    private FuzzyMethodFinderImpl namedMethod;
+    private FuzzyFieldFinderImpl field;
+
+    @Setup
+    public void setup() {
+        this.type = switch (this.owner) {
+            case "String" -> String.class;
+            case "Character" -> Character.class;
+            case "ConcurrentHashMap" -> ConcurrentHashMap.class;
+            default -> throw new IllegalArgumentException("Unknown owner " + this.owner);
+        };
+        switch (this.owner) {
+            case "String" -> {
+                this.exactMethod = new FuzzyMethodFinderImpl(String.class, char[].class);
+                this.namedMethod = new FuzzyMethodFinderImpl(String.class, int.class);
+                this.namedMethod.params(int.class).names("codePointAt");
+                this.field = new FuzzyFieldFinderImpl(String.class, byte[].class);
+            }
+            case "Character" -> {
+                this.exactMethod = new FuzzyMethodFinderImpl(Character.class, Character.class);
+                this.exactMethod.params(char.class);
+                this.namedMethod = new FuzzyMethodFinderImpl(Character.class, boolean.class);
+                this.namedMethod.params(int.class).names("isLetter");
+                this.field = new FuzzyFieldFinderImpl(Character.class, Class.class);
+            }
+            case "ConcurrentHashMap" -> {
+                this.exactMethod = new FuzzyMethodFinderImpl(ConcurrentHashMap.class, String.class);
+                this.namedMethod = new FuzzyMethodFinderImpl(ConcurrentHashMap.class, boolean.class);
+                this.namedMethod.params(Object.class).names("containsValue");
+                this.field = new FuzzyFieldFinderImpl(ConcurrentHashMap.class, long.class);
+                this.field.names("baseCount");
+            }
+            default -> throw new IllegalArgumentException("Unknown owner " + this.owner);
+        }
+    }
+
+    @Benchmark
+    public Object resolveExactMethod() {
+        return this.exactMethod.find0();
+    }
+
+    @Benchmark
+    public Object resolveNamedMethod() {
+        return this.namedMethod.find0();
+    }
+
+    @Benchmark
+    public Object resolveField() {
+        return this.field.find0();
+    }
+
+    @Benchmark
+    public Object coldExactMethod() {
+        return this.exactMethod.find0(new MemberIndex(this.type));
+    }
+
+    @Benchmark
+    public Object coldNamedMethod() {
+        return this.namedMethod.find0(new MemberIndex(this.type));
+    }
+
+    @Benchmark
+    public Object coldField() {
+        return this.field.find0(new MemberIndex(this.type));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+final class Baselines {
+
+    private Baselines() {
+    }
+
+    /**
+     * Spins a lambda for the functional interface the same way javac would for a method reference.
+     */
+    static Object metafactory(final MethodHandles.Lookup lookup, final Class<?> functionalInterface, final MethodHandle implementation) throws Throwable {
+        Method sam = null;
+        for (final Method method : functionalInterface.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                sam = method;
+                break;
+            }
+        }
+        if (sam == null) {
+            throw new IllegalArgumentException(functionalInterface + " is not a functional interface");
+        }
+        final MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        return LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(functionalInterface), samType, implementation, implementation.type())
+                .getTarget()
+                .invoke();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.mirror.FuzzyFieldFinder;
+import me.machinemaker.mirror.Mirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Repeated resolution of the same queries, as done by several plugins
+ * resolving the same members, which is served by the resolution cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CachedResolutionBenchmark {
+
+    @Benchmark
+    public MethodHandle repeatedMethodQuery() {
+        return Mirror.fuzzyMethod(Target.class, int.class).params(int.class).find();
+    }
+
+    @Benchmark
+    public MethodHandle repeatedFieldQuery() {
+        return Mirror.fuzzyField(Target.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+    }
+}
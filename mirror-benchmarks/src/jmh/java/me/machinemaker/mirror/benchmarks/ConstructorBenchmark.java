@@ -0,0 +1,85 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import me.machinemaker.mirror.Mirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocating through a found constructor, with a factory spun by the
+ * lambda metafactory compared to a method handle, reflection and
+ * {@code new}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructorBenchmark {
+
+    private final String name = "created";
+
+    private Constructor<Target> constructor;
+    private MethodHandle handle;
+    private Function<String, Object> factory;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws NoSuchMethodException {
+        this.constructor = Target.class.getDeclaredConstructor(String.class);
+        this.handle = Mirror.fuzzyConstructor(Target.class).params(String.class).findExact(MethodType.methodType(Object.class, String.class));
+        this.factory = Mirror.fuzzyConstructor(Target.class).params(String.class).findAs(Function.class);
+    }
+
+    @Benchmark
+    public Object direct() {
+        return new Target(this.name);
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        return this.constructor.newInstance(this.name);
+    }
+
+    @Benchmark
+    public Object handle() throws Throwable {
+        return (Object) this.handle.invokeExact(this.name);
+    }
+
+    @Benchmark
+    public Object factory() {
+        return this.factory.apply(this.name);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.mirror.FieldAccessor;
+import me.machinemaker.mirror.FieldCopier;
+import me.machinemaker.mirror.Mirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Copying every field of an object, with a compiled copier compared to
+ * a loop over field accessors and a hand written copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CopierBenchmark {
+
+    private final Target source = new Target();
+    private final Target target = new Target();
+
+    private List<FieldAccessor> accessors;
+    private FieldCopier<Target> copier;
+
+    @Setup
+    public void setup() throws IllegalAccessException {
+        this.accessors = new ArrayList<>();
+        for (final Field field : Target.class.getDeclaredFields()) {
+            this.accessors.add(FieldAccessor.from(field));
+        }
+        this.copier = Mirror.copier(Target.class).build();
+    }
+
+    @Benchmark
+    public Target direct() {
+        this.target.counter = this.source.counter;
+        this.target.health = this.source.health;
+        this.target.name = this.source.name;
+        return this.target;
+    }
+
+    @Benchmark
+    public Target accessorLoop() {
+        for (final FieldAccessor accessor : this.accessors) {
+            accessor.set(this.target, accessor.get(this.source));
+        }
+        return this.target;
+    }
+
+    @Benchmark
+    public Target copier() {
+        this.copier.copy(this.source, this.target);
+        return this.target;
+    }
+}
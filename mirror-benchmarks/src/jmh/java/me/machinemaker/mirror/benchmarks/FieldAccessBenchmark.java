@@ -0,0 +1,279 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import me.machinemaker.mirror.FieldAccessor;
+import me.machinemaker.mirror.FuzzyFieldFinder;
+import me.machinemaker.mirror.Mirror;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot path field reads and writes, comparing the accessors and fuzzy
+ * handles against direct access and the usual reflective baselines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldAccessBenchmark {
+
+    private final Target target = new Target();
+
+    private Field reflectCounter;
+    private Field reflectName;
+    private VarHandle varHandleCounter;
+    private VarHandle varHandleName;
+    private ToIntFunction<Target> lambdaCounter;
+    private Function<Target, String> lambdaName;
+
+    private FieldAccessor accessorCounter;
+    private FieldAccessor accessorName;
+    private FieldAccessor.Typed<String> typedName;
+    private FieldAccessor compiledCounter;
+    private FieldAccessor compiledName;
+    private CounterAccessor compiledUserCounter;
+    private MethodHandle fuzzyCounterGetter;
+    private MethodHandle fuzzyCounterSetter;
+    private MethodHandle fuzzyNameGetter;
+    private MethodHandle fuzzyNameSetter;
+    private MethodHandle fuzzyExactCounterGetter;
+    private MethodHandle fuzzyExactCounterSetter;
+    private ToIntFunction<Target> fuzzyFunctionCounter;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Throwable {
+        this.reflectCounter = Target.class.getDeclaredField("counter");
+        this.reflectCounter.setAccessible(true);
+        this.reflectName = Target.class.getDeclaredField("name");
+        this.reflectName.setAccessible(true);
+
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Target.class, MethodHandles.lookup());
+        this.varHandleCounter = lookup.findVarHandle(Target.class, "counter", int.class);
+        this.varHandleName = lookup.findVarHandle(Target.class, "name", String.class);
+
+        // LambdaMetafactory can't target a field directly, so go through the equivalent accessor methods
+        this.lambdaCounter = (ToIntFunction<Target>) Baselines.metafactory(lookup, ToIntFunction.class, lookup.findVirtual(Target.class, "counter", MethodType.methodType(int.class)));
+        this.lambdaName = (Function<Target, String>) Baselines.metafactory(lookup, Function.class, lookup.findVirtual(Target.class, "name", MethodType.methodType(String.class)));
+
+        this.accessorCounter = FieldAccessor.from(this.reflectCounter);
+        this.accessorName = FieldAccessor.from(this.reflectName);
+        this.typedName = FieldAccessor.typed(this.reflectName, String.class);
+        this.compiledCounter = FieldAccessor.compile(this.reflectCounter);
+        this.compiledName = FieldAccessor.compile(this.reflectName);
+        this.compiledUserCounter = FieldAccessor.compileAs(this.reflectCounter, CounterAccessor.class);
+
+        final FuzzyFieldFinder counterFinder = Mirror.fuzzyField(Target.class, int.class);
+        this.fuzzyCounterGetter = counterFinder.find(FuzzyFieldFinder.Type.GETTER);
+        this.fuzzyCounterSetter = counterFinder.find(FuzzyFieldFinder.Type.SETTER);
+        this.fuzzyExactCounterGetter = counterFinder.findExact(FuzzyFieldFinder.Type.GETTER, MethodType.methodType(int.class, Target.class));
+        this.fuzzyExactCounterSetter = counterFinder.findExact(FuzzyFieldFinder.Type.SETTER, MethodType.methodType(void.class, Target.class, int.class));
+        this.fuzzyFunctionCounter = counterFinder.findAs(FuzzyFieldFinder.Type.GETTER, ToIntFunction.class);
+        final FuzzyFieldFinder nameFinder = Mirror.fuzzyField(Target.class, String.class);
+        this.fuzzyNameGetter = nameFinder.find(FuzzyFieldFinder.Type.GETTER);
+        this.fuzzyNameSetter = nameFinder.find(FuzzyFieldFinder.Type.SETTER);
+    }
+
+    @Benchmark
+    public int directGetInt() {
+        return this.target.counter;
+    }
+
+    @Benchmark
+    public int reflectGetInt() throws IllegalAccessException {
+        return this.reflectCounter.getInt(this.target);
+    }
+
+    @Benchmark
+    public int varHandleGetInt() {
+        return (int) this.varHandleCounter.get(this.target);
+    }
+
+    @Benchmark
+    public int lambdaGetInt() {
+        return this.lambdaCounter.applyAsInt(this.target);
+    }
+
+    @Benchmark
+    public int fuzzyFunctionGetInt() {
+        return this.fuzzyFunctionCounter.applyAsInt(this.target);
+    }
+
+    @Benchmark
+    public Object accessorGetInt() {
+        return this.accessorCounter.get(this.target);
+    }
+
+    @Benchmark
+    public Object compiledGetInt() {
+        return this.compiledCounter.get(this.target);
+    }
+
+    @Benchmark
+    public int compiledUserGetInt() {
+        return this.compiledUserCounter.counter(this.target);
+    }
+
+    @Benchmark
+    public int fuzzyHandleGetInt() throws Throwable {
+        return (int) this.fuzzyCounterGetter.invoke(this.target);
+    }
+
+    @Benchmark
+    public int fuzzyExactHandleGetInt() throws Throwable {
+        return (int) this.fuzzyExactCounterGetter.invokeExact(this.target);
+    }
+
+    @Benchmark
+    public String directGetObject() {
+        return this.target.name;
+    }
+
+    @Benchmark
+    public Object reflectGetObject() throws IllegalAccessException {
+        return this.reflectName.get(this.target);
+    }
+
+    @Benchmark
+    public String varHandleGetObject() {
+        return (String) this.varHandleName.get(this.target);
+    }
+
+    @Benchmark
+    public String lambdaGetObject() {
+        return this.lambdaName.apply(this.target);
+    }
+
+    @Benchmark
+    public Object accessorGetObject() {
+        return this.accessorName.get(this.target);
+    }
+
+    @Benchmark
+    public String typedGetObject() {
+        return this.typedName.get(this.target);
+    }
+
+    @Benchmark
+    public Object compiledGetObject() {
+        return this.compiledName.get(this.target);
+    }
+
+    @Benchmark
+    public String fuzzyHandleGetObject() throws Throwable {
+        return (String) this.fuzzyNameGetter.invoke(this.target);
+    }
+
+    @Benchmark
+    public void directSetInt() {
+        this.target.counter = 42;
+    }
+
+    @Benchmark
+    public void reflectSetInt() throws IllegalAccessException {
+        this.reflectCounter.setInt(this.target, 42);
+    }
+
+    @Benchmark
+    public void varHandleSetInt() {
+        this.varHandleCounter.set(this.target, 42);
+    }
+
+    @Benchmark
+    public void accessorSetInt() {
+        this.accessorCounter.set(this.target, 42);
+    }
+
+    @Benchmark
+    public void compiledSetInt() {
+        this.compiledCounter.set(this.target, 42);
+    }
+
+    @Benchmark
+    public void compiledUserSetInt() {
+        this.compiledUserCounter.counter(this.target, 42);
+    }
+
+    @Benchmark
+    public void fuzzyHandleSetInt() throws Throwable {
+        this.fuzzyCounterSetter.invoke(this.target, 42);
+    }
+
+    @Benchmark
+    public void fuzzyExactHandleSetInt() throws Throwable {
+        this.fuzzyExactCounterSetter.invokeExact(this.target, 42);
+    }
+
+    @Benchmark
+    public void directSetObject() {
+        this.target.name = "target";
+    }
+
+    @Benchmark
+    public void reflectSetObject() throws IllegalAccessException {
+        this.reflectName.set(this.target, "target");
+    }
+
+    @Benchmark
+    public void varHandleSetObject() {
+        this.varHandleName.set(this.target, "target");
+    }
+
+    @Benchmark
+    public void accessorSetObject() {
+        this.accessorName.set(this.target, "target");
+    }
+
+    @Benchmark
+    public void compiledSetObject() {
+        this.compiledName.set(this.target, "target");
+    }
+
+    @Benchmark
+    public void fuzzyHandleSetObject() throws Throwable {
+        this.fuzzyNameSetter.invoke(this.target, "target");
+    }
+
+    public interface CounterAccessor {
+
+        int counter(Target target);
+
+        void counter(Target target, int counter);
+    }
+}
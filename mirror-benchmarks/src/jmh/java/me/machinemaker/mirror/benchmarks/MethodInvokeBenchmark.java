@@ -0,0 +1,143 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.mirror.Mirror;
+import me.machinemaker.mirror.proxy.Invoker;
+import me.machinemaker.mirror.proxy.Owner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Hot path method invocations through handles from the fuzzy method finder
+ * compared to direct calls, {@link Method#invoke} and a lambda.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodInvokeBenchmark {
+
+    private final Target target = new Target();
+
+    private Method reflectIncrement;
+    private IncrementFunction lambdaIncrement;
+    private MethodHandle fuzzyIncrement;
+    private MethodHandle fuzzyName;
+    private MethodHandle fuzzyExactIncrement;
+    private TargetProxy proxy;
+    private IncrementFunction fuzzyLambdaIncrement;
+
+    @Setup
+    public void setup() throws Throwable {
+        this.reflectIncrement = Target.class.getDeclaredMethod("increment", int.class);
+        this.reflectIncrement.setAccessible(true);
+
+        final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Target.class, MethodHandles.lookup());
+        this.lambdaIncrement = (IncrementFunction) Baselines.metafactory(lookup, IncrementFunction.class, lookup.findVirtual(Target.class, "increment", MethodType.methodType(int.class, int.class)));
+
+        this.fuzzyIncrement = Mirror.fuzzyMethod(Target.class, int.class).params(int.class).find();
+        this.fuzzyName = Mirror.fuzzyMethod(Target.class, String.class).find();
+        this.proxy = Mirror.proxy(TargetProxy.class);
+        this.fuzzyLambdaIncrement = Mirror.fuzzyMethod(Target.class, int.class).params(int.class).findAs(IncrementFunction.class);
+        this.fuzzyExactIncrement = Mirror.fuzzyMethod(Target.class, int.class).params(int.class).findExact(MethodType.methodType(int.class, Target.class, int.class));
+    }
+
+    @Benchmark
+    public int directIncrement() {
+        return this.target.increment(1);
+    }
+
+    @Benchmark
+    public Object reflectIncrement() throws ReflectiveOperationException {
+        return this.reflectIncrement.invoke(this.target, 1);
+    }
+
+    @Benchmark
+    public int lambdaIncrement() {
+        return this.lambdaIncrement.increment(this.target, 1);
+    }
+
+    @Benchmark
+    public int fuzzyLambdaIncrement() {
+        return this.fuzzyLambdaIncrement.increment(this.target, 1);
+    }
+
+    @Benchmark
+    public int fuzzyHandleIncrement() throws Throwable {
+        return (int) this.fuzzyIncrement.invoke(this.target, 1);
+    }
+
+    @Benchmark
+    public int fuzzyExactHandleIncrement() throws Throwable {
+        return (int) this.fuzzyExactIncrement.invokeExact(this.target, 1);
+    }
+
+    @Benchmark
+    public int proxyIncrement() {
+        return this.proxy.increment(this.target, 1);
+    }
+
+    @Benchmark
+    public String directName() {
+        return this.target.name();
+    }
+
+    @Benchmark
+    public String fuzzyHandleName() throws Throwable {
+        return (String) this.fuzzyName.invoke(this.target);
+    }
+
+    @Benchmark
+    public String proxyName() {
+        return this.proxy.name(this.target);
+    }
+
+    @Owner(Target.class)
+    public interface TargetProxy {
+
+        @Invoker
+        int increment(Target target, int amount);
+
+        @Invoker
+        String name(Object target);
+    }
+
+    @FunctionalInterface
+    public interface IncrementFunction {
+
+        int increment(Target target, int amount);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.mirror.FieldAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Primitive field access through the specialized accessor methods.
+ * Every benchmark here must not allocate, the {@code jmhAllocationCheck}
+ * task fails the build if the gc profiler reports any allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveAccessBenchmark {
+
+    private final Target target = new Target();
+
+    private FieldAccessor accessorCounter;
+    private FieldAccessor accessorHealth;
+    private FieldAccessor compiledCounter;
+    private FieldAccessor compiledHealth;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        this.accessorCounter = FieldAccessor.from(Target.class.getDeclaredField("counter"));
+        this.accessorHealth = FieldAccessor.from(Target.class.getDeclaredField("health"));
+        this.compiledCounter = FieldAccessor.compile(Target.class.getDeclaredField("counter"));
+        this.compiledHealth = FieldAccessor.compile(Target.class.getDeclaredField("health"));
+    }
+
+    @Benchmark
+    public int accessorGetInt() {
+        return this.accessorCounter.getInt(this.target);
+    }
+
+    @Benchmark
+    public void accessorSetInt() {
+        this.accessorCounter.setInt(this.target, 1000);
+    }
+
+    @Benchmark
+    public double accessorGetDouble() {
+        return this.accessorHealth.getDouble(this.target);
+    }
+
+    @Benchmark
+    public void accessorSetDouble() {
+        this.accessorHealth.setDouble(this.target, 1000.0D);
+    }
+
+    @Benchmark
+    public int compiledGetInt() {
+        return this.compiledCounter.getInt(this.target);
+    }
+
+    @Benchmark
+    public void compiledSetInt() {
+        this.compiledCounter.setInt(this.target, 1000);
+    }
+
+    @Benchmark
+    public double compiledGetDouble() {
+        return this.compiledHealth.getDouble(this.target);
+    }
+
+    @Benchmark
+    public void compiledSetDouble() {
+        this.compiledHealth.setDouble(this.target, 1000.0D);
+    }
+}
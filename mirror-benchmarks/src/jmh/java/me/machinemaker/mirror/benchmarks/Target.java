@@ -0,0 +1,51 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.benchmarks;
+
+/**
+ * The type accessed by the benchmarks. The members are package-private
+ * so the direct access baselines can reach them, mirror doesn't care.
+ */
+public class Target {
+
+    int counter = 42;
+    double health = 20.0D;
+    String name = "target";
+
+    Target() {
+    }
+
+    Target(final String name) {
+        this.name = name;
+    }
+
+    int increment(final int amount) {
+        this.counter += amount;
+        return this.counter;
+    }
+
+    int counter() {
+        return this.counter;
+    }
+
+    String name() {
+        return this.name;
+    }
+}
@@ -1,4 +1,14 @@
 plugins {
     id("config-kotlin")
     id("config-publish")
+    `java-test-fixtures`
 }
+
+dependencies {
+    implementation(libs.asm)
+}
+
+// the shared test helpers aren't part of the published library
+val javaComponent = components["java"] as AdhocComponentWithVariants
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesApiElements"]) { skip() }
+javaComponent.withVariantsFromConfiguration(configurations["testFixturesRuntimeElements"]) { skip() }
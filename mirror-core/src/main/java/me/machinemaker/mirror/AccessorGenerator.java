@@ -0,0 +1,187 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates hidden classes implementing an interface by delegating
+ * each method to a {@link MethodHandle} stored in a static final field.
+ * The JIT trusts static finals, so the handles are constants and calls
+ * inline through to the target member.
+ */
+final class AccessorGenerator {
+
+    private static final String HANDLE = Type.getInternalName(MethodHandle.class);
+    private static final String HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class);
+    private static final String DESCRIPTION = "DESCRIPTION";
+
+    private AccessorGenerator() {
+    }
+
+    /**
+     * Generates an implementation of an interface.
+     *
+     * @param type the interface to implement
+     * @param implementations the handle for each method, null to keep a default method
+     * @param description the value returned from {@link Object#toString()}
+     * @param <A> the interface type
+     * @return a new instance of the generated class
+     */
+    static <A> A generate(final Class<A> type, final Function<Method, @Nullable MethodHandle> implementations, final String description) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type + " is not an interface");
+        }
+        final MethodHandles.Lookup lookup = lookupFor(type);
+        final String className = lookup.lookupClass().getPackageName().replace('.', '/') + "/" + type.getSimpleName() + "$Mirror";
+
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V17, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, className, null, "java/lang/Object", new String[]{Type.getInternalName(type)});
+
+        final List<Object> classData = new ArrayList<>();
+        final Set<String> implemented = new HashSet<>();
+        for (final Method method : type.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || isObjectMethod(method) || !implemented.add(method.getName() + Type.getMethodDescriptor(method))) {
+                continue;
+            }
+            final @Nullable MethodHandle handle = implementations.apply(method);
+            if (handle == null) {
+                if (Modifier.isAbstract(method.getModifiers())) {
+                    throw new IllegalArgumentException("No implementation for " + method + " in " + description);
+                }
+                continue;
+            }
+            final String field = "handle" + classData.size();
+            classData.add(handle.asType(MethodType.methodType(method.getReturnType(), method.getParameterTypes())));
+            writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, field, HANDLE_DESCRIPTOR, null, null).visitEnd();
+            writeDelegate(writer, className, field, method);
+        }
+        classData.add(description);
+        writer.visitField(Opcodes.ACC_PRIVATE | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, DESCRIPTION, "Ljava/lang/String;", null, null).visitEnd();
+
+        writeStaticInitializer(writer, className, classData);
+        writeConstructor(writer);
+        writeToString(writer, className);
+        writer.visitEnd();
+
+        try {
+            final MethodHandles.Lookup hidden = lookup.defineHiddenClassWithClassData(writer.toByteArray(), List.copyOf(classData), true);
+            return type.cast(hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke());
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Could not generate an implementation of " + type + " for " + description, e);
+        }
+    }
+
+    /**
+     * Prefer defining next to the interface so its class loader can see
+     * every type in the signatures, falling back to mirror's own package
+     * for public interfaces that can't be opened.
+     */
+    private static MethodHandles.Lookup lookupFor(final Class<?> type) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, Mirror.LOOKUP);
+            if (lookup.hasFullPrivilegeAccess()) {
+                return lookup;
+            }
+        } catch (final IllegalAccessException ignored) {
+        }
+        if (Modifier.isPublic(type.getModifiers())) {
+            return Mirror.LOOKUP;
+        }
+        throw new IllegalArgumentException("Cannot define an implementation of " + type + ", it isn't public and its package isn't open to mirror");
+    }
+
+    static boolean isObjectMethod(final Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (final NoSuchMethodException ignored) {
+            return false;
+        }
+    }
+
+    private static void writeDelegate(final ClassWriter writer, final String className, final String field, final Method method) {
+        final String descriptor = Type.getMethodDescriptor(method);
+        final MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, method.getName(), descriptor, null, null);
+        visitor.visitCode();
+        visitor.visitFieldInsn(Opcodes.GETSTATIC, className, field, HANDLE_DESCRIPTOR);
+        int slot = 1;
+        for (final Type argument : Type.getArgumentTypes(descriptor)) {
+            visitor.visitVarInsn(argument.getOpcode(Opcodes.ILOAD), slot);
+            slot += argument.getSize();
+        }
+        visitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, HANDLE, "invokeExact", descriptor, false);
+        visitor.visitInsn(Type.getReturnType(descriptor).getOpcode(Opcodes.IRETURN));
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void writeStaticInitializer(final ClassWriter writer, final String className, final List<Object> classData) {
+        final MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_STATIC, "<clinit>", "()V", null, null);
+        visitor.visitCode();
+        for (int i = 0; i < classData.size(); i++) {
+            final boolean isDescription = i == classData.size() - 1;
+            final String fieldType = isDescription ? "Ljava/lang/String;" : HANDLE_DESCRIPTOR;
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+            visitor.visitLdcInsn("_");
+            visitor.visitLdcInsn(Type.getType(fieldType));
+            visitor.visitLdcInsn(i);
+            visitor.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/invoke/MethodHandles", "classDataAt", "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;I)Ljava/lang/Object;", false);
+            visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getType(fieldType).getInternalName());
+            visitor.visitFieldInsn(Opcodes.PUTSTATIC, className, isDescription ? DESCRIPTION : "handle" + i, fieldType);
+        }
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void writeConstructor(final ClassWriter writer) {
+        final MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        visitor.visitCode();
+        visitor.visitVarInsn(Opcodes.ALOAD, 0);
+        visitor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        visitor.visitInsn(Opcodes.RETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+
+    private static void writeToString(final ClassWriter writer, final String className) {
+        final MethodVisitor visitor = writer.visitMethod(Opcodes.ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+        visitor.visitCode();
+        visitor.visitFieldInsn(Opcodes.GETSTATIC, className, DESCRIPTION, "Ljava/lang/String;");
+        visitor.visitInsn(Opcodes.ARETURN);
+        visitor.visitMaxs(0, 0);
+        visitor.visitEnd();
+    }
+}
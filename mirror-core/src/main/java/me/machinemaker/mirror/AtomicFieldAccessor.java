@@ -0,0 +1,399 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.UnaryOperator;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Accesses a field through a {@link VarHandle}, with memory ordering
+ * and atomic updates.
+ *
+ * <p>The access modes are compiled into a generated class holding the
+ * var handle's method handles as constants, so they inline to the same
+ * code as the {@link VarHandle} used directly. The int, long and boolean
+ * methods don't box if the field is declared with that type, and fall
+ * back to the boxing methods otherwise. Setting a final field throws
+ * {@link UnsupportedOperationException}.</p>
+ *
+ * @see FuzzyFieldFinder#findAtomic()
+ */
+public interface AtomicFieldAccessor {
+
+    /**
+     * Creates a new atomic accessor for a field.
+     *
+     * @param field the field to access
+     * @return a new atomic accessor
+     * @throws IllegalAccessException if you can't access the field
+     */
+    static AtomicFieldAccessor from(final Field field) throws IllegalAccessException {
+        return AtomicFieldAccessors.compile(field, ResolutionCache.lookup(field.getDeclaringClass()).unreflectVarHandle(field));
+    }
+
+    /**
+     * Get the field this accesses.
+     *
+     * @return the field
+     */
+    Field field();
+
+    /**
+     * Get the var handle this accesses the field with.
+     *
+     * @return the var handle
+     */
+    VarHandle varHandle();
+
+    /**
+     * Gets the value with volatile memory semantics.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     * @see VarHandle#getVolatile(Object...)
+     */
+    @Nullable Object getVolatile(@Nullable Object instance);
+
+    /**
+     * Sets the value with volatile memory semantics.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @see VarHandle#setVolatile(Object...)
+     */
+    void setVolatile(@Nullable Object instance, @Nullable Object value);
+
+    /**
+     * Gets the value with acquire memory semantics.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     * @see VarHandle#getAcquire(Object...)
+     */
+    @Nullable Object getAcquire(@Nullable Object instance);
+
+    /**
+     * Sets the value with release memory semantics.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @see VarHandle#setRelease(Object...)
+     */
+    void setRelease(@Nullable Object instance, @Nullable Object value);
+
+    /**
+     * Atomically sets the value if it is the expected value. Primitive
+     * values are compared by value, and references by identity.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param expected the expected value
+     * @param value the new value
+     * @return true if the value was set
+     * @see VarHandle#compareAndSet(Object...)
+     */
+    boolean compareAndSet(@Nullable Object instance, @Nullable Object expected, @Nullable Object value);
+
+    /**
+     * Atomically sets the value, returning the previous value.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @return the previous value
+     * @see VarHandle#getAndSet(Object...)
+     */
+    @Nullable Object getAndSet(@Nullable Object instance, @Nullable Object value);
+
+    /**
+     * Atomically adds to the value of a numeric field, returning the previous value.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param delta the value to add
+     * @return the previous value
+     * @throws UnsupportedOperationException if the field isn't numeric
+     * @see VarHandle#getAndAdd(Object...)
+     */
+    Object getAndAdd(@Nullable Object instance, Object delta);
+
+    /**
+     * Atomically updates the value with a function, returning the previous
+     * value. The function may be called more than once if other threads
+     * update the field at the same time.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param function the function computing the new value
+     * @return the previous value
+     */
+    default @Nullable Object getAndUpdate(@Nullable final Object instance, final UnaryOperator<@Nullable Object> function) {
+        @Nullable Object previous;
+        do {
+            previous = this.getVolatile(instance);
+        } while (!this.compareAndSet(instance, previous, function.apply(previous)));
+        return previous;
+    }
+
+    /**
+     * Gets the value with volatile memory semantics, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default int getIntVolatile(@Nullable final Object instance) {
+        return (Integer) this.getVolatile(instance);
+    }
+
+    /**
+     * Sets the value with volatile memory semantics, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setIntVolatile(@Nullable final Object instance, final int value) {
+        this.setVolatile(instance, value);
+    }
+
+    /**
+     * Gets the value with acquire memory semantics, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default int getIntAcquire(@Nullable final Object instance) {
+        return (Integer) this.getAcquire(instance);
+    }
+
+    /**
+     * Sets the value with release memory semantics, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setIntRelease(@Nullable final Object instance, final int value) {
+        this.setRelease(instance, value);
+    }
+
+    /**
+     * Atomically sets the value if it is the expected value, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param expected the expected value
+     * @param value the new value
+     * @return true if the value was set
+     */
+    default boolean compareAndSetInt(@Nullable final Object instance, final int expected, final int value) {
+        return this.compareAndSet(instance, expected, value);
+    }
+
+    /**
+     * Atomically sets the value, returning the previous value, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @return the previous value
+     */
+    default int getAndSetInt(@Nullable final Object instance, final int value) {
+        return (Integer) this.getAndSet(instance, value);
+    }
+
+    /**
+     * Atomically adds to the value, returning the previous value, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param delta the value to add
+     * @return the previous value
+     */
+    default int getAndAddInt(@Nullable final Object instance, final int delta) {
+        return (Integer) this.getAndAdd(instance, delta);
+    }
+
+    /**
+     * Atomically updates the value with a function, returning the previous value, without boxing if the field is declared as {@code int}.
+     * The function may be called more than once if other threads update
+     * the field at the same time.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param function the function computing the new value
+     * @return the previous value
+     */
+    default int getAndUpdateInt(@Nullable final Object instance, final IntUnaryOperator function) {
+        int previous;
+        do {
+            previous = this.getIntVolatile(instance);
+        } while (!this.compareAndSetInt(instance, previous, function.applyAsInt(previous)));
+        return previous;
+    }
+
+    /**
+     * Gets the value with volatile memory semantics, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default long getLongVolatile(@Nullable final Object instance) {
+        return (Long) this.getVolatile(instance);
+    }
+
+    /**
+     * Sets the value with volatile memory semantics, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setLongVolatile(@Nullable final Object instance, final long value) {
+        this.setVolatile(instance, value);
+    }
+
+    /**
+     * Gets the value with acquire memory semantics, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default long getLongAcquire(@Nullable final Object instance) {
+        return (Long) this.getAcquire(instance);
+    }
+
+    /**
+     * Sets the value with release memory semantics, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setLongRelease(@Nullable final Object instance, final long value) {
+        this.setRelease(instance, value);
+    }
+
+    /**
+     * Atomically sets the value if it is the expected value, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param expected the expected value
+     * @param value the new value
+     * @return true if the value was set
+     */
+    default boolean compareAndSetLong(@Nullable final Object instance, final long expected, final long value) {
+        return this.compareAndSet(instance, expected, value);
+    }
+
+    /**
+     * Atomically sets the value, returning the previous value, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @return the previous value
+     */
+    default long getAndSetLong(@Nullable final Object instance, final long value) {
+        return (Long) this.getAndSet(instance, value);
+    }
+
+    /**
+     * Atomically adds to the value, returning the previous value, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param delta the value to add
+     * @return the previous value
+     */
+    default long getAndAddLong(@Nullable final Object instance, final long delta) {
+        return (Long) this.getAndAdd(instance, delta);
+    }
+
+    /**
+     * Atomically updates the value with a function, returning the previous value, without boxing if the field is declared as {@code long}.
+     * The function may be called more than once if other threads update
+     * the field at the same time.
+     *
+     * @param instance the instance to update the field on, or null for static fields
+     * @param function the function computing the new value
+     * @return the previous value
+     */
+    default long getAndUpdateLong(@Nullable final Object instance, final LongUnaryOperator function) {
+        long previous;
+        do {
+            previous = this.getLongVolatile(instance);
+        } while (!this.compareAndSetLong(instance, previous, function.applyAsLong(previous)));
+        return previous;
+    }
+
+    /**
+     * Gets the value with volatile memory semantics, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default boolean getBooleanVolatile(@Nullable final Object instance) {
+        return (Boolean) this.getVolatile(instance);
+    }
+
+    /**
+     * Sets the value with volatile memory semantics, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setBooleanVolatile(@Nullable final Object instance, final boolean value) {
+        this.setVolatile(instance, value);
+    }
+
+    /**
+     * Gets the value with acquire memory semantics, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the value
+     */
+    default boolean getBooleanAcquire(@Nullable final Object instance) {
+        return (Boolean) this.getAcquire(instance);
+    }
+
+    /**
+     * Sets the value with release memory semantics, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     */
+    default void setBooleanRelease(@Nullable final Object instance, final boolean value) {
+        this.setRelease(instance, value);
+    }
+
+    /**
+     * Atomically sets the value if it is the expected value, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param expected the expected value
+     * @param value the new value
+     * @return true if the value was set
+     */
+    default boolean compareAndSetBoolean(@Nullable final Object instance, final boolean expected, final boolean value) {
+        return this.compareAndSet(instance, expected, value);
+    }
+
+    /**
+     * Atomically sets the value, returning the previous value, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to set the field on, or null for static fields
+     * @param value the new value
+     * @return the previous value
+     */
+    default boolean getAndSetBoolean(@Nullable final Object instance, final boolean value) {
+        return (Boolean) this.getAndSet(instance, value);
+    }
+}
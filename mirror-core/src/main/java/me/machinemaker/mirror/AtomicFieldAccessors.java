@@ -0,0 +1,86 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Atomic field accessors compiled into hidden classes by the {@link AccessorGenerator}.
+ */
+final class AtomicFieldAccessors {
+
+    private static final Map<String, VarHandle.AccessMode> MODES = Map.of(
+            "getVolatile", VarHandle.AccessMode.GET_VOLATILE,
+            "setVolatile", VarHandle.AccessMode.SET_VOLATILE,
+            "getAcquire", VarHandle.AccessMode.GET_ACQUIRE,
+            "setRelease", VarHandle.AccessMode.SET_RELEASE,
+            "compareAndSet", VarHandle.AccessMode.COMPARE_AND_SET,
+            "getAndSet", VarHandle.AccessMode.GET_AND_SET,
+            "getAndAdd", VarHandle.AccessMode.GET_AND_ADD
+    );
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+            "Int", int.class,
+            "Long", long.class,
+            "Boolean", boolean.class
+    );
+
+    private AtomicFieldAccessors() {
+    }
+
+    static AtomicFieldAccessor compile(final Field field, final VarHandle varHandle) {
+        final boolean isStatic = Modifier.isStatic(field.getModifiers());
+        return AccessorGenerator.generate(AtomicFieldAccessor.class, method -> switch (method.getName()) {
+            case "field" -> MethodHandles.constant(Field.class, field);
+            case "varHandle" -> MethodHandles.constant(VarHandle.class, varHandle);
+            default -> implement(method, field.getType(), varHandle, isStatic);
+        }, "AtomicFieldAccessor{field=" + field + "}");
+    }
+
+    /**
+     * Matches a method to an access mode by its name, with any primitive
+     * name removed. The primitive methods are only implemented for fields
+     * of that primitive type, leaving the boxing defaults for any other.
+     */
+    private static @Nullable MethodHandle implement(final Method method, final Class<?> fieldType, final VarHandle varHandle, final boolean isStatic) {
+        String name = method.getName();
+        for (final Map.Entry<String, Class<?>> primitive : PRIMITIVES.entrySet()) {
+            if (name.contains(primitive.getKey())) {
+                if (primitive.getValue() != fieldType) {
+                    return null;
+                }
+                name = name.replace(primitive.getKey(), "");
+                break;
+            }
+        }
+        final VarHandle.@Nullable AccessMode mode = MODES.get(name);
+        if (mode == null) {
+            return null;
+        }
+        final MethodHandle handle = varHandle.toMethodHandle(mode);
+        return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+    }
+}
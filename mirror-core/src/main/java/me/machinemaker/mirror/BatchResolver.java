@@ -0,0 +1,84 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves many finders at once. Finders are grouped by owner so each
+ * owner's {@link MemberIndex} is built once, and owners are resolved in
+ * parallel on the common fork join pool.
+ */
+final class BatchResolver {
+
+    private BatchResolver() {
+    }
+
+    static Resolution resolveAll(final Collection<? extends FuzzyFinder> finders) {
+        final Map<Class<?>, List<FuzzyFinder>> byOwner = new LinkedHashMap<>();
+        for (final FuzzyFinder finder : finders) {
+            byOwner.computeIfAbsent(finder.owner(), ignored -> new ArrayList<>()).add(finder);
+        }
+
+        final Map<FuzzyFinder, Throwable> failures = Collections.synchronizedMap(new IdentityHashMap<>());
+        byOwner.values().parallelStream().forEach(group -> {
+            for (final FuzzyFinder finder : group) {
+                try {
+                    resolve(finder);
+                } catch (final RuntimeException | LinkageError ex) {
+                    // a linkage error, like a missing class in a signature, only breaks this finder
+                    failures.put(finder, ex);
+                }
+            }
+        });
+
+        final List<FuzzyFinder> resolved = new ArrayList<>();
+        final List<Resolution.Failure> failed = new ArrayList<>();
+        for (final FuzzyFinder finder : finders) {
+            final @Nullable Throwable failure = failures.get(finder);
+            if (failure == null) {
+                resolved.add(finder);
+            } else {
+                failed.add(new Resolution.Failure(finder, failure));
+            }
+        }
+        return new Resolution(resolved, failed);
+    }
+
+    private static void resolve(final FuzzyFinder finder) {
+        if (finder instanceof final FuzzyMethodFinderImpl method) {
+            ResolutionCache.methodHandle(method);
+        } else if (finder instanceof final FuzzyFieldFinderImpl field) {
+            ResolutionCache.fieldHandle(field, FuzzyFieldFinder.Type.GETTER);
+        } else if (finder instanceof final FuzzyConstructorFinderImpl constructor) {
+            ResolutionCache.constructorHandle(constructor);
+        } else if (finder instanceof final FuzzyFieldFinder field) {
+            // implemented outside of mirror, it can only be resolved through its own find
+            field.find(FuzzyFieldFinder.Type.GETTER);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Links {@code invokedynamic} call sites to fuzzy matched members.
+ *
+ * @see Mirror#bootstrapFuzzyMethod
+ */
+final class Bootstraps {
+
+    private Bootstraps() {
+    }
+
+    static CallSite method(final String name, final MethodType type, final Class<?> owner, final Class<?>[] signature, final boolean isStatic) {
+        final MethodType query;
+        if (signature.length == 0) {
+            query = isStatic ? type : type.dropParameterTypes(0, 1);
+        } else {
+            query = MethodType.methodType(signature[0], Arrays.copyOfRange(signature, 1, signature.length));
+        }
+        final FuzzyMethodFinder finder = Mirror.fuzzyMethod(owner, query.returnType()).params(query.parameterArray()).names(name);
+        return new ConstantCallSite(finder.findExact(type));
+    }
+
+    static CallSite field(final String name, final MethodType type, final Class<?> owner, final Class<?>[] fieldType, final FuzzyFieldFinder.Type accessType) {
+        if (fieldType.length > 1) {
+            throw new IllegalArgumentException("Expected at most one field type, got " + Arrays.toString(fieldType));
+        }
+        final Class<?> queryType;
+        if (fieldType.length == 1) {
+            queryType = fieldType[0];
+        } else {
+            queryType = accessType == FuzzyFieldFinder.Type.GETTER ? type.returnType() : type.lastParameterType();
+        }
+        final FuzzyFieldFinder finder = Mirror.fuzzyField(owner, queryType).names(name);
+        return new ConstantCallSite(finder.findExact(accessType, type));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Field accessors bound to one instance, compiled into hidden classes by
+ * the {@link AccessorGenerator}. The getter and setter are bound to the
+ * instance with {@link MethodHandle#bindTo}, so once they are stored in
+ * the generated class both the handles and the instance are constants.
+ */
+final class BoundFieldAccessors {
+
+    private static final MethodHandle BIND;
+
+    static {
+        try {
+            BIND = MethodHandles.lookup().findStatic(BoundFieldAccessors.class, "bind", MethodType.methodType(FieldAccessor.Bound.class, FieldHandles.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BoundFieldAccessors() {
+    }
+
+    /**
+     * Compiles an accessor for a field of an instance.
+     *
+     * @param handles the field's handles
+     * @param instance the instance, ignored for static fields
+     * @return the bound accessor
+     */
+    static FieldAccessor.Bound bind(final FieldHandles handles, final @Nullable Object instance) {
+        final Class<?> owner = handles.field().getDeclaringClass();
+        if (!handles.isStatic() && !owner.isInstance(instance)) {
+            throw new IllegalArgumentException(instance + " is not an instance of " + owner.getName());
+        }
+        final MethodHandle getter = handles.getter().bindTo(instance);
+        final MethodHandle setter = handles.setter().bindTo(instance);
+        final Class<?> type = handles.field().getType();
+        return AccessorGenerator.generate(FieldAccessor.Bound.class, method -> switch (method.getName()) {
+            case "get" -> getter;
+            case "set" -> setter;
+            default -> primitive(method, type, getter, setter);
+        }, "BoundFieldAccessor{field=" + handles.field() + ", instance=" + instance + "}");
+    }
+
+    /**
+     * Gets a {@code (Object)Bound} handle that binds the field to an
+     * instance, to implement {@link FieldAccessor#bindTo} in compiled accessors.
+     *
+     * @param handles the field's handles
+     * @return the binding handle
+     */
+    static MethodHandle binder(final FieldHandles handles) {
+        return BIND.bindTo(handles);
+    }
+
+    /**
+     * Binds any accessor to an instance by calling it with the instance.
+     *
+     * @param accessor the accessor
+     * @param instance the instance
+     * @return the bound accessor
+     */
+    static FieldAccessor.Bound delegate(final FieldAccessor accessor, final @Nullable Object instance) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        return AccessorGenerator.generate(FieldAccessor.Bound.class, method -> {
+            final MethodType type = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).insertParameterTypes(0, Object.class);
+            try {
+                return MethodHandles.insertArguments(lookup.findVirtual(FieldAccessor.class, method.getName(), type), 0, accessor, instance);
+            } catch (final ReflectiveOperationException ex) {
+                return null;
+            }
+        }, "BoundFieldAccessor{accessor=" + accessor + ", instance=" + instance + "}");
+    }
+
+    private static @Nullable MethodHandle primitive(final Method method, final Class<?> type, final MethodHandle getter, final MethodHandle setter) {
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (method.getName().startsWith("get") && method.getReturnType() == type) {
+            return getter;
+        } else if (method.getName().startsWith("set") && method.getParameterCount() == 1 && method.getParameterTypes()[0] == type) {
+            return setter;
+        }
+        return null;
+    }
+}
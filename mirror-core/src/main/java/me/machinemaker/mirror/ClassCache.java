@@ -0,0 +1,135 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers which class names a class loader could and couldn't load, so
+ * probing the same names again is a map lookup instead of a
+ * {@link Class#forName} that throws on every miss.
+ *
+ * <p>Loaders are held weakly. Found classes are held through weak
+ * references too, since a class keeps its loader reachable; they can't
+ * be collected before their loader anyway. Misses keep the first failure
+ * so it can be reported again.</p>
+ */
+final class ClassCache {
+
+    private static final Map<@Nullable ClassLoader, Map<String, Object>> LOADERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ClassCache() {
+    }
+
+    /**
+     * Finds a class by name, initializing it like {@link Class#forName(String)}.
+     *
+     * @param loader the loader to load the class with
+     * @param name the binary name of the class
+     * @return the class, or null if the loader couldn't find it
+     */
+    static @Nullable Class<?> find(final @Nullable ClassLoader loader, final String name) {
+        return lookup(loader, name) instanceof final Class<?> type ? type : null;
+    }
+
+    /**
+     * Loads a class by name, initializing it like {@link Class#forName(String)}.
+     *
+     * @param loader the loader to load the class with
+     * @param name the binary name of the class
+     * @return the class
+     * @throws ClassNotFoundException if the loader couldn't find it, the first failure for the name again if it's cached
+     */
+    static Class<?> load(final @Nullable ClassLoader loader, final String name) throws ClassNotFoundException {
+        final Object result = lookup(loader, name);
+        if (result instanceof final Class<?> type) {
+            return type;
+        }
+        throw (ClassNotFoundException) result;
+    }
+
+    /**
+     * Gets the class or the reason it couldn't be loaded, only going to
+     * the loader, and recording a {@link FlightEvents.ClassLookup} event,
+     * when the name isn't cached.
+     */
+    private static Object lookup(final @Nullable ClassLoader loader, final String name) {
+        final Map<String, Object> classes = LOADERS.computeIfAbsent(loader, ignored -> new ConcurrentHashMap<>());
+        final @Nullable Object cached = classes.get(name);
+        if (cached instanceof final ClassNotFoundException missing) {
+            return missing;
+        } else if (cached != null) {
+            final @Nullable Class<?> type = (Class<?>) ((WeakReference<?>) cached).get();
+            if (type != null) {
+                return type;
+            }
+        }
+        final FlightEvents.ClassLookup event = new FlightEvents.ClassLookup();
+        event.begin();
+        final Object result = forName(classes, loader, name);
+        if (event.shouldCommit()) {
+            event.className = name;
+            event.found = result instanceof Class<?>;
+            event.commit();
+        }
+        return result;
+    }
+
+    private static Object forName(final Map<String, Object> classes, final @Nullable ClassLoader loader, final String name) {
+        try {
+            final Class<?> type = Class.forName(name, true, loader);
+            classes.put(name, new WeakReference<>(type));
+            return type;
+        } catch (final ClassNotFoundException ex) {
+            classes.put(name, new Missing(ex));
+            Metrics.classNotFound();
+            return ex;
+        }
+    }
+
+    static void clear() {
+        LOADERS.clear();
+    }
+
+    /**
+     * The cached copy of a failure to load a class. It only keeps the stack
+     * trace as text, since the backtrace of a thrown exception references
+     * the classes of its frames, which would keep their loaders alive.
+     */
+    private static final class Missing extends ClassNotFoundException {
+
+        private static final long serialVersionUID = 1L;
+
+        private Missing(final ClassNotFoundException failure) {
+            super(failure.getMessage());
+            this.setStackTrace(failure.getStackTrace());
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
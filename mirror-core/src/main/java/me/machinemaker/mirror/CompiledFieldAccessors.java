@@ -0,0 +1,99 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Field accessors compiled into hidden classes by the {@link AccessorGenerator}.
+ */
+final class CompiledFieldAccessors {
+
+    private CompiledFieldAccessors() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> FieldAccessor.Typed<T> compileTyped(final Field field, final Type type) throws IllegalAccessException {
+        final FieldHandles handles = FieldHandles.of(field);
+        final MethodHandle getter = handles.checkedGetter(type);
+        return AccessorGenerator.generate(FieldAccessor.Typed.class, method -> switch (method.getName()) {
+            case "get" -> getter;
+            case "set" -> handles.setter();
+            case "bindTo" -> BoundFieldAccessors.binder(handles);
+            default -> primitive(method, handles);
+        }, "CompiledFieldAccessor{field=" + field + ", type=" + type.getTypeName() + "}");
+    }
+
+    static <A> A compileAs(final Field field, final Class<A> accessorType) throws IllegalAccessException {
+        final FieldHandles handles = FieldHandles.of(field);
+        return AccessorGenerator.generate(accessorType, method -> implement(method, handles), accessorType.getSimpleName() + "{field=" + field + "}");
+    }
+
+    /**
+     * Compiles only the primitive specializations matching a primitive field
+     * from already adapted handles, so {@link FieldAccessorImpl} can call them
+     * without boxing.
+     */
+    static FieldAccessor primitives(final FieldHandles handles) {
+        return AccessorGenerator.generate(FieldAccessor.class, method -> switch (method.getName()) {
+            case "get" -> handles.getter();
+            case "set" -> handles.setter();
+            default -> primitive(method, handles);
+        }, "PrimitiveFieldAccessor{field=" + handles.field() + "}");
+    }
+
+    /**
+     * Matches the primitive specializations on {@link FieldAccessor}
+     * to the field, leaving the boxing defaults for any other type.
+     */
+    private static @Nullable MethodHandle primitive(final Method method, final FieldHandles handles) {
+        final Class<?> type = handles.field().getType();
+        if (!type.isPrimitive()) {
+            return null;
+        } else if (method.getName().startsWith("get") && method.getReturnType() == type) {
+            return handles.getter();
+        } else if (method.getName().startsWith("set") && method.getParameterCount() == 2 && method.getParameterTypes()[1] == type) {
+            return handles.setter();
+        }
+        return null;
+    }
+
+    /**
+     * Matches a user method by its shape, methods returning a value
+     * are getters and void methods with one more parameter are setters.
+     * Static fields may be accessed without passing a receiver.
+     */
+    private static @Nullable MethodHandle implement(final Method method, final FieldHandles handles) {
+        final boolean isGetter = method.getReturnType() != void.class;
+        final int receivers = method.getParameterCount() - (isGetter ? 0 : 1);
+        final MethodHandle handle = isGetter ? handles.getter() : handles.setter();
+        if (receivers == 1) {
+            return handle;
+        } else if (receivers == 0 && handles.isStatic()) {
+            return MethodHandles.insertArguments(handle, 0, (Object) null);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Getters for {@code static final} fields that read the field once and
+ * then return the value as a constant.
+ *
+ * <p>The getter is the dynamic invoker of a {@link MutableCallSite} that
+ * first reads the field normally, then relinks itself to a
+ * {@link MethodHandles#constant constant} handle for the value it read.
+ * Like a {@link LazyHandles lazy handle}, nothing is left on the hot path
+ * but the constant, which the JIT folds wherever the getter itself is a
+ * constant. A null value isn't folded, since it may only be null because
+ * the declaring class is still initializing. For the same reason, a
+ * primitive field's default value isn't folded while it's read from the
+ * declaring class's own {@code <clinit>}, which is the only place the
+ * default can be seen before the field is assigned.</p>
+ */
+final class ConstantFields {
+
+    private static final MethodHandle FOLD;
+    private static final MethodHandle READ_ONLY;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            FOLD = lookup.findVirtual(Folder.class, "fold", MethodType.methodType(Object.class, Object.class));
+            READ_ONLY = lookup.findStatic(ConstantFields.class, "readOnly", MethodType.methodType(void.class, Field.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ConstantFields() {
+    }
+
+    static boolean isConstant(final Field field) {
+        final int modifiers = field.getModifiers();
+        return Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers);
+    }
+
+    /**
+     * Makes a getter for a field fold to a constant after its first
+     * non-null read, if the field is {@code static final}.
+     *
+     * @param field the field
+     * @param getter a getter for the field, of any type
+     * @return a getter of the same type
+     */
+    static MethodHandle getter(final Field field, final MethodHandle getter) {
+        if (!isConstant(field)) {
+            return getter;
+        }
+        final MethodType type = getter.type();
+        final MutableCallSite site = new MutableCallSite(type);
+        final MethodHandle fold = FOLD.bindTo(new Folder(site, field.getDeclaringClass(), defaultValue(field.getType()))).asType(MethodType.methodType(type.returnType(), type.returnType()));
+        site.setTarget(MethodHandles.filterReturnValue(getter, fold));
+        return site.dynamicInvoker();
+    }
+
+    /**
+     * Gets a setter for a {@code static final} field, which can't be set,
+     * that throws when invoked.
+     *
+     * @param field the field
+     * @return a {@code (T)void} handle that always throws
+     */
+    static MethodHandle setter(final Field field) {
+        return MethodHandles.insertArguments(READ_ONLY, 0, field).asType(MethodType.methodType(void.class, field.getType()));
+    }
+
+    private static @Nullable Object defaultValue(final Class<?> type) {
+        return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+    }
+
+    private static boolean isInitializing(final Class<?> owner) {
+        return STACK_WALKER.walk(frames -> frames.anyMatch(frame -> frame.getDeclaringClass() == owner && frame.getMethodName().equals("<clinit>")));
+    }
+
+    private static void readOnly(final Field field, final @Nullable Object ignored) {
+        throw new UnsupportedOperationException("Cannot set static final field " + field);
+    }
+
+    private record Folder(MutableCallSite site, Class<?> owner, @Nullable Object defaultValue) {
+
+        private @Nullable Object fold(final @Nullable Object value) {
+            if (value != null && (!value.equals(this.defaultValue) || !isInitializing(this.owner))) {
+                final MethodType type = this.site.type();
+                this.site.setTarget(MethodHandles.dropArguments(MethodHandles.constant(type.returnType(), value), 0, type.parameterList()));
+                MutableCallSite.syncAll(new MutableCallSite[]{this.site});
+            }
+            return value;
+        }
+    }
+}
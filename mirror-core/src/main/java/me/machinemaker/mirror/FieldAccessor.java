@@ -32,6 +32,10 @@ public interface FieldAccessor {
     /**
      * Creates a new accessor for a field.
      *
+     * <p>The value of a {@code static final} field is read once and then
+     * returned as a constant. Such a field can't be set, so setting it
+     * throws.</p>
+     *
      * @param field the field to access
      * @return a new accessor
      * @throws IllegalAccessException if you can't access the field
@@ -67,6 +71,85 @@ public interface FieldAccessor {
         return new FieldAccessorImpl.TypedImpl<>(field, type);
     }
 
+    /**
+     * Creates a new accessor for a field, compiled into a hidden class.
+     *
+     * <p>The field handles are stored in static final fields of the generated
+     * class, so the JIT can treat them as constants and inline each access
+     * down to a plain field read or write.</p>
+     *
+     * @param field the field to access
+     * @return a new compiled accessor
+     * @throws IllegalAccessException if you can't access the field
+     */
+    static FieldAccessor compile(final Field field) throws IllegalAccessException {
+        return CompiledFieldAccessors.compileTyped(field, Object.class);
+    }
+
+    /**
+     * Creates a new typed accessor for a field, compiled into a hidden class.
+     *
+     * @param field the field to access
+     * @param type the field type
+     * @return a new compiled typed accessor
+     * @param <T> field type
+     * @throws IllegalAccessException if you can't access the field
+     * @see #compile(Field)
+     */
+    static <T> FieldAccessor.Typed<T> compile(final Field field, final Class<T> type) throws IllegalAccessException {
+        Util.checkParameterized(type);
+        return compile(field, TypeToken.get(type));
+    }
+
+    /**
+     * Creates a new typed accessor for a field, compiled into a hidden class.
+     *
+     * @param field the field to access
+     * @param type the field type
+     * @return a new compiled typed accessor
+     * @param <T> field type
+     * @throws IllegalAccessException if you can't access the field
+     * @see #compile(Field)
+     */
+    static <T> FieldAccessor.Typed<T> compile(final Field field, final TypeToken<T> type) throws IllegalAccessException {
+        return CompiledFieldAccessors.compileTyped(field, type.getType());
+    }
+
+    /**
+     * Implements your own accessor interface for a field with a hidden class.
+     *
+     * <p>Methods returning a value read the field and void methods taking
+     * one more parameter write it. The first parameter is the instance, which
+     * may be left out for static fields. Parameter and return types are
+     * adapted to the field, so {@code int getHealth(Entity entity)} works
+     * without any boxing.</p>
+     *
+     * @param field the field to access
+     * @param accessorType the interface to implement
+     * @return a new implementation of the interface
+     * @param <A> accessor type
+     * @throws IllegalAccessException if you can't access the field
+     * @throws IllegalArgumentException if a method doesn't have an accessor shape
+     * @see #compile(Field)
+     */
+    static <A> A compileAs(final Field field, final Class<A> accessorType) throws IllegalAccessException {
+        return CompiledFieldAccessors.compileAs(field, accessorType);
+    }
+
+    /**
+     * Binds this accessor to one instance, for fields of long-lived
+     * objects like a server singleton. Accessors created by mirror bind
+     * the instance into a newly compiled accessor, so create a bound
+     * accessor once and keep it rather than binding on every access.
+     *
+     * @param instance the instance to access the field of, ignored for static fields
+     * @return an accessor for the field of the instance
+     * @throws IllegalArgumentException if the instance doesn't have the field
+     */
+    default Bound bindTo(final @Nullable Object instance) {
+        return BoundFieldAccessors.delegate(this, instance);
+    }
+
     /**
      * Sets the field value.
      *
@@ -93,6 +176,174 @@ public interface FieldAccessor {
         return Objects.requireNonNull(this.get(instance), "field value was null for " + this);
     }
 
+    /**
+     * Gets the value of a boolean field, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a boolean
+     */
+    default boolean getBoolean(@Nullable final Object instance) {
+        return (Boolean) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a boolean field, without boxing if the field is declared as {@code boolean}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setBoolean(@Nullable final Object instance, final boolean value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a byte field, without boxing if the field is declared as {@code byte}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a byte
+     */
+    default byte getByte(@Nullable final Object instance) {
+        return (Byte) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a byte field, without boxing if the field is declared as {@code byte}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setByte(@Nullable final Object instance, final byte value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a char field, without boxing if the field is declared as {@code char}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a char
+     */
+    default char getChar(@Nullable final Object instance) {
+        return (Character) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a char field, without boxing if the field is declared as {@code char}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setChar(@Nullable final Object instance, final char value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a short field, without boxing if the field is declared as {@code short}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a short
+     */
+    default short getShort(@Nullable final Object instance) {
+        return (Short) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a short field, without boxing if the field is declared as {@code short}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setShort(@Nullable final Object instance, final short value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of an int field, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't an int
+     */
+    default int getInt(@Nullable final Object instance) {
+        return (Integer) this.get(instance);
+    }
+
+    /**
+     * Sets the value of an int field, without boxing if the field is declared as {@code int}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setInt(@Nullable final Object instance, final int value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a long field, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a long
+     */
+    default long getLong(@Nullable final Object instance) {
+        return (Long) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a long field, without boxing if the field is declared as {@code long}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setLong(@Nullable final Object instance, final long value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a float field, without boxing if the field is declared as {@code float}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a float
+     */
+    default float getFloat(@Nullable final Object instance) {
+        return (Float) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a float field, without boxing if the field is declared as {@code float}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setFloat(@Nullable final Object instance, final float value) {
+        this.set(instance, value);
+    }
+
+    /**
+     * Gets the value of a double field, without boxing if the field is declared as {@code double}.
+     *
+     * @param instance the instance to get the field from, or null for static fields
+     * @return the field value
+     * @throws ClassCastException if the field value isn't a double
+     */
+    default double getDouble(@Nullable final Object instance) {
+        return (Double) this.get(instance);
+    }
+
+    /**
+     * Sets the value of a double field, without boxing if the field is declared as {@code double}.
+     *
+     * @param instance instance to set the field on, or null for static fields
+     * @param value the value to set the field to
+     */
+    default void setDouble(@Nullable final Object instance, final double value) {
+        this.set(instance, value);
+    }
+
     /**
      * A typed helper for accessing fields.
      *
@@ -111,4 +362,188 @@ public interface FieldAccessor {
             return Objects.requireNonNull(this.get(instance), "field value was null for " + this);
         }
     }
+
+    /**
+     * An accessor for a field of one particular instance, created with
+     * {@link #bindTo(Object)}. The instance is bound into the accessor's
+     * handles, so the JIT treats it as a constant, and calls don't pass or
+     * check a receiver.
+     */
+    interface Bound {
+
+        /**
+         * Sets the field value.
+         *
+         * @param value the value to set the field to
+         */
+        void set(@Nullable Object value);
+
+        /**
+         * Gets the field value.
+         *
+         * @return the field value
+         */
+        @Nullable Object get();
+
+        /**
+         * Gets the field value, requiring it not is null.
+         *
+         * @return the not null field value
+         */
+        default Object require() {
+            return Objects.requireNonNull(this.get(), "field value was null for " + this);
+        }
+
+        /**
+         * Gets the value of a boolean field, without boxing if the field is declared as {@code boolean}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a boolean
+         */
+        default boolean getBoolean() {
+            return (Boolean) this.get();
+        }
+
+        /**
+         * Sets the value of a boolean field, without boxing if the field is declared as {@code boolean}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setBoolean(final boolean value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a byte field, without boxing if the field is declared as {@code byte}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a byte
+         */
+        default byte getByte() {
+            return (Byte) this.get();
+        }
+
+        /**
+         * Sets the value of a byte field, without boxing if the field is declared as {@code byte}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setByte(final byte value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a char field, without boxing if the field is declared as {@code char}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a char
+         */
+        default char getChar() {
+            return (Character) this.get();
+        }
+
+        /**
+         * Sets the value of a char field, without boxing if the field is declared as {@code char}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setChar(final char value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a short field, without boxing if the field is declared as {@code short}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a short
+         */
+        default short getShort() {
+            return (Short) this.get();
+        }
+
+        /**
+         * Sets the value of a short field, without boxing if the field is declared as {@code short}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setShort(final short value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of an int field, without boxing if the field is declared as {@code int}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't an int
+         */
+        default int getInt() {
+            return (Integer) this.get();
+        }
+
+        /**
+         * Sets the value of an int field, without boxing if the field is declared as {@code int}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setInt(final int value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a long field, without boxing if the field is declared as {@code long}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a long
+         */
+        default long getLong() {
+            return (Long) this.get();
+        }
+
+        /**
+         * Sets the value of a long field, without boxing if the field is declared as {@code long}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setLong(final long value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a float field, without boxing if the field is declared as {@code float}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a float
+         */
+        default float getFloat() {
+            return (Float) this.get();
+        }
+
+        /**
+         * Sets the value of a float field, without boxing if the field is declared as {@code float}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setFloat(final float value) {
+            this.set(value);
+        }
+
+        /**
+         * Gets the value of a double field, without boxing if the field is declared as {@code double}.
+         *
+         * @return the field value
+         * @throws ClassCastException if the field value isn't a double
+         */
+        default double getDouble() {
+            return (Double) this.get();
+        }
+
+        /**
+         * Sets the value of a double field, without boxing if the field is declared as {@code double}.
+         *
+         * @param value the value to set the field to
+         */
+        default void setDouble(final double value) {
+            this.set(value);
+        }
+    }
 }
@@ -22,57 +22,175 @@ package me.machinemaker.mirror;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 class FieldAccessorImpl implements FieldAccessor {
 
+    private static final MethodHandle FAILURE;
+
+    static {
+        try {
+            FAILURE = MethodHandles.lookup().findStatic(FieldAccessorImpl.class, "failure", MethodType.methodType(RuntimeException.class, String.class, Throwable.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     final Field field;
-    private final boolean isStatic;
+    private final FieldHandles handles;
     private final MethodHandle getter;
     private final MethodHandle setter;
+    private final MethodHandle exactGetter;
+    private final MethodHandle exactSetter;
+    private volatile @Nullable FieldAccessor primitives;
 
     FieldAccessorImpl(final Field field) throws IllegalAccessException {
-        field.trySetAccessible();
+        final FieldHandles handles = FieldHandles.of(field);
         this.field = field;
-        this.getter = Mirror.LOOKUP.unreflectGetter(field);
-        this.setter = Mirror.LOOKUP.unreflectSetter(field);
-        this.isStatic = Modifier.isStatic(field.getModifiers());
+        this.handles = handles;
+        this.exactGetter = FlightEvents.sampled(handles.getter(), field, "get");
+        this.exactSetter = FlightEvents.sampled(handles.setter(), field, "set");
+        this.getter = this.exactGetter.asType(MethodType.methodType(Object.class, Object.class));
+        this.setter = this.exactSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+    }
+
+    /**
+     * Wraps anything the handle throws the same way {@link #get} and {@link #set} do,
+     * so the compiled primitive accessor reports failures like this one.
+     */
+    private static MethodHandle failing(final MethodHandle handle, final String operation, final Field field) {
+        final MethodHandle failure = MethodHandles.insertArguments(FAILURE, 0, "Could not " + operation + " field " + field);
+        final MethodHandle thrower = MethodHandles.filterReturnValue(failure, MethodHandles.throwException(handle.type().returnType(), RuntimeException.class));
+        return MethodHandles.catchException(handle, Throwable.class, MethodHandles.dropArguments(thrower, 1, handle.type().parameterList()));
+    }
+
+    private static RuntimeException failure(final String message, final Throwable cause) {
+        return new RuntimeException(message, cause);
+    }
+
+    /**
+     * Gets the primitive specializations, compiling them on first use so
+     * accessors only using {@link #get} and {@link #set} never define a
+     * class for them. Like {@link MemberIndex}, racing threads may each
+     * compile one, and one of them is kept.
+     */
+    private FieldAccessor primitives() {
+        @Nullable FieldAccessor primitives = this.primitives;
+        if (primitives == null) {
+            primitives = this.field.getType().isPrimitive()
+                    ? CompiledFieldAccessors.primitives(new FieldHandles(this.field, failing(this.exactGetter, "get", this.field), failing(this.exactSetter, "set", this.field)))
+                    : new Boxed(this);
+            this.primitives = primitives;
+        }
+        return primitives;
+    }
+
+    @Override
+    public Bound bindTo(@Nullable final Object instance) {
+        return BoundFieldAccessors.bind(this.handles, instance);
     }
 
     @Override
     public void set(@Nullable final Object instance, @Nullable final Object value) {
         try {
-            if (this.isStatic) {
-                this.setter.invoke(value);
-            } else {
-                if (instance == null) {
-                    throw new IllegalArgumentException("Must pass an instance of the type for a non-static field");
-                }
-                this.setter.invoke(instance, value);
-            }
+            this.setter.invokeExact(instance, value);
         } catch (final Throwable e) {
-            throw new RuntimeException("Could not set field " + this.setter, e);
+            throw new RuntimeException("Could not set field " + this.field, e);
         }
     }
 
     @Override
     public @Nullable Object get(@Nullable final Object instance) {
         try {
-            if (this.isStatic) {
-                return this.getter.invoke();
-            } else {
-                if (instance == null) {
-                    throw new IllegalArgumentException("Must pass an instance of the type for a non-static field");
-                }
-                return this.getter.invoke(instance);
-            }
+            return this.getter.invokeExact(instance);
         } catch (final Throwable e) {
-            throw new RuntimeException("Could not get field " + this.getter, e);
+            throw new RuntimeException("Could not get field " + this.field, e);
         }
     }
 
+    @Override
+    public boolean getBoolean(@Nullable final Object instance) {
+        return this.primitives().getBoolean(instance);
+    }
+
+    @Override
+    public void setBoolean(@Nullable final Object instance, final boolean value) {
+        this.primitives().setBoolean(instance, value);
+    }
+
+    @Override
+    public byte getByte(@Nullable final Object instance) {
+        return this.primitives().getByte(instance);
+    }
+
+    @Override
+    public void setByte(@Nullable final Object instance, final byte value) {
+        this.primitives().setByte(instance, value);
+    }
+
+    @Override
+    public char getChar(@Nullable final Object instance) {
+        return this.primitives().getChar(instance);
+    }
+
+    @Override
+    public void setChar(@Nullable final Object instance, final char value) {
+        this.primitives().setChar(instance, value);
+    }
+
+    @Override
+    public short getShort(@Nullable final Object instance) {
+        return this.primitives().getShort(instance);
+    }
+
+    @Override
+    public void setShort(@Nullable final Object instance, final short value) {
+        this.primitives().setShort(instance, value);
+    }
+
+    @Override
+    public int getInt(@Nullable final Object instance) {
+        return this.primitives().getInt(instance);
+    }
+
+    @Override
+    public void setInt(@Nullable final Object instance, final int value) {
+        this.primitives().setInt(instance, value);
+    }
+
+    @Override
+    public long getLong(@Nullable final Object instance) {
+        return this.primitives().getLong(instance);
+    }
+
+    @Override
+    public void setLong(@Nullable final Object instance, final long value) {
+        this.primitives().setLong(instance, value);
+    }
+
+    @Override
+    public float getFloat(@Nullable final Object instance) {
+        return this.primitives().getFloat(instance);
+    }
+
+    @Override
+    public void setFloat(@Nullable final Object instance, final float value) {
+        this.primitives().setFloat(instance, value);
+    }
+
+    @Override
+    public double getDouble(@Nullable final Object instance) {
+        return this.primitives().getDouble(instance);
+    }
+
+    @Override
+    public void setDouble(@Nullable final Object instance, final double value) {
+        this.primitives().setDouble(instance, value);
+    }
+
     @Override
     public String toString() {
         return "FieldAccessorImpl{" +
@@ -80,6 +198,23 @@ class FieldAccessorImpl implements FieldAccessor {
                 '}';
     }
 
+    /**
+     * The primitive specializations of a reference typed field, which
+     * all box through {@link FieldAccessor}'s defaults.
+     */
+    private record Boxed(FieldAccessor accessor) implements FieldAccessor {
+
+        @Override
+        public void set(@Nullable final Object instance, @Nullable final Object value) {
+            this.accessor.set(instance, value);
+        }
+
+        @Override
+        public @Nullable Object get(@Nullable final Object instance) {
+            return this.accessor.get(instance);
+        }
+    }
+
     static class TypedImpl<T> extends FieldAccessorImpl implements FieldAccessor.Typed<T> {
 
         private final TypeToken<T> type;
@@ -0,0 +1,86 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Field;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Copies the instance fields of one object to another.
+ *
+ * <p>Every field is resolved once when the copier is built, and the copy
+ * is a single compiled routine, so primitive fields are copied without
+ * boxing and there is no per field dispatch.</p>
+ *
+ * @param <T> the type of object copied
+ * @see Mirror#copier(Class)
+ */
+public interface FieldCopier<T> {
+
+    /**
+     * Copies every field of the source to the target.
+     *
+     * @param source the object to copy from
+     * @param target the object to copy to
+     */
+    void copy(T source, T target);
+
+    /**
+     * A builder for a {@link FieldCopier}.
+     *
+     * @param <T> the type of object copied
+     */
+    sealed interface Builder<T> permits FieldCopierBuilder {
+
+        /**
+         * Only copy fields matching a filter. Filters added
+         * more than once must all match.
+         *
+         * @param filter the filter
+         * @return this
+         */
+        Builder<T> filter(Predicate<Field> filter);
+
+        /**
+         * Copy the value of fields of a type with a hook instead of copying
+         * the reference, for example {@code deepCopy(int[].class, int[]::clone)}.
+         * The hook applies to fields declared as the type or a subtype, and
+         * is called with every non-null value, null is copied as null. The
+         * first hook added for a field is used. A generic type can be given
+         * with its raw class, like {@code .<List<?>>deepCopy(List.class, ArrayList::new)}.
+         *
+         * @param type the field type to copy with the hook
+         * @param copier the hook, returning the value to store in the target
+         * @return this
+         * @param <V> the field type
+         * @throws IllegalArgumentException if the type is primitive
+         */
+        <V> Builder<T> deepCopy(Class<? super V> type, UnaryOperator<V> copier);
+
+        /**
+         * Builds the copier.
+         *
+         * @return the copier
+         * @throws IllegalArgumentException if any field can't be accessed
+         */
+        FieldCopier<T> build();
+    }
+}
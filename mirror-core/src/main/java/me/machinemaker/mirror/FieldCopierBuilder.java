@@ -0,0 +1,132 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Builds {@link FieldCopier}s. Each field is copied by a handle that reads
+ * it from the source and writes it to the target, and the handles are
+ * combined into one held as a constant by a generated class.
+ *
+ * @param <T> the type of object copied
+ */
+final class FieldCopierBuilder<T> implements FieldCopier.Builder<T> {
+
+    private static final MethodHandle APPLY;
+
+    static {
+        try {
+            APPLY = MethodHandles.lookup().findStatic(FieldCopierBuilder.class, "apply", MethodType.methodType(Object.class, UnaryOperator.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<T> type;
+    private final List<Predicate<Field>> filters = new ArrayList<>();
+    private final List<Hook> hooks = new ArrayList<>();
+
+    FieldCopierBuilder(final Class<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public FieldCopier.Builder<T> filter(final Predicate<Field> filter) {
+        this.filters.add(filter);
+        return this;
+    }
+
+    @Override
+    public <V> FieldCopier.Builder<T> deepCopy(final Class<? super V> type, final UnaryOperator<V> copier) {
+        if (type.isPrimitive()) {
+            throw new IllegalArgumentException("Can't deep copy primitive " + type + " fields");
+        }
+        this.hooks.add(new Hook(type, copier));
+        return this;
+    }
+
+    @Override
+    public FieldCopier<T> build() {
+        final List<MethodHandle> copies = new ArrayList<>();
+        // JDK superclasses' fields can't be opened, so the walk stops at the first one
+        for (Class<?> current = this.type; current != null && current != Object.class && (current == this.type || current.getClassLoader() != null); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic() && this.filters.stream().allMatch(filter -> filter.test(field))) {
+                    copies.add(this.copy(field));
+                }
+            }
+        }
+        final MethodHandle copy = copies.isEmpty()
+                ? MethodHandles.empty(MethodType.methodType(void.class, this.type, this.type))
+                : HandleSequences.sequence(copies);
+        @SuppressWarnings("unchecked")
+        final FieldCopier<T> copier = AccessorGenerator.generate(FieldCopier.class, method -> method.getName().equals("copy") ? copy : null, "FieldCopier[" + this.type.getName() + "]");
+        return copier;
+    }
+
+    /**
+     * Creates a {@code (T,T)void} handle copying one field from the first argument to the second.
+     */
+    private MethodHandle copy(final Field field) {
+        final MethodHandle getter;
+        final MethodHandle setter;
+        try {
+            field.trySetAccessible();
+            getter = Mirror.LOOKUP.unreflectGetter(field);
+            setter = Mirror.LOOKUP.unreflectSetter(field);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException("Could not access " + field + " to copy it", ex);
+        }
+        MethodHandle read = getter;
+        final @Nullable Hook hook = this.hook(field.getType());
+        if (hook != null) {
+            read = MethodHandles.filterReturnValue(read, APPLY.bindTo(hook.copier()).asType(MethodType.methodType(field.getType(), field.getType())));
+        }
+        final MethodHandle copy = MethodHandles.filterArguments(setter, 1, read);
+        return MethodHandles.permuteArguments(copy, MethodType.methodType(void.class, field.getDeclaringClass(), field.getDeclaringClass()), 1, 0)
+                .asType(MethodType.methodType(void.class, this.type, this.type));
+    }
+
+    private static @Nullable Object apply(final UnaryOperator<@Nullable Object> copier, final @Nullable Object value) {
+        return value == null ? null : copier.apply(value);
+    }
+
+    private @Nullable Hook hook(final Class<?> fieldType) {
+        for (final Hook hook : this.hooks) {
+            if (hook.type().isAssignableFrom(fieldType)) {
+                return hook;
+            }
+        }
+        return null;
+    }
+
+    private record Hook(Class<?> type, UnaryOperator<?> copier) {
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Getter and setter handles for a field, normalized so both static and
+ * instance fields take a receiver as the first parameter. The getter of a
+ * {@code static final} field folds to a {@link ConstantFields constant}
+ * and its setter throws.
+ *
+ * @param field the field
+ * @param getter {@code (Object)T}
+ * @param setter {@code (Object,T)void}
+ */
+record FieldHandles(Field field, MethodHandle getter, MethodHandle setter) {
+
+    private static final MethodHandle REQUIRE_INSTANCE;
+    private static final MethodHandle CHECK_TYPE;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            REQUIRE_INSTANCE = lookup.findStatic(FieldHandles.class, "requireInstance", MethodType.methodType(Object.class, Object.class));
+            CHECK_TYPE = lookup.findStatic(FieldHandles.class, "checkType", MethodType.methodType(Object.class, Class.class, Type.class, Object.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static FieldHandles of(final Field field) throws IllegalAccessException {
+        field.trySetAccessible();
+        if (ConstantFields.isConstant(field)) {
+            return of(field, ConstantFields.getter(field, Mirror.LOOKUP.unreflectGetter(field)), ConstantFields.setter(field));
+        }
+        return of(field, Mirror.LOOKUP.unreflectGetter(field), Mirror.LOOKUP.unreflectSetter(field));
+    }
+
+    static FieldHandles of(final Field field, final MethodHandle getter, final MethodHandle setter) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            return new FieldHandles(field, MethodHandles.dropArguments(getter, 0, Object.class), MethodHandles.dropArguments(setter, 0, Object.class));
+        }
+        return new FieldHandles(field, receiver(getter), receiver(setter));
+    }
+
+    private static MethodHandle receiver(final MethodHandle handle) {
+        return MethodHandles.filterArguments(handle.asType(handle.type().changeParameterType(0, Object.class)), 0, REQUIRE_INSTANCE);
+    }
+
+    boolean isStatic() {
+        return Modifier.isStatic(this.field.getModifiers());
+    }
+
+    /**
+     * Gets the getter with a check that the value is an instance of the given type.
+     *
+     * @param type the expected value type
+     * @return the getter, checked if the field type doesn't already guarantee it
+     */
+    MethodHandle checkedGetter(final Type type) {
+        final Class<?> erased = GenericTypeReflector.erase(type);
+        if (erased.isAssignableFrom(MethodType.methodType(this.field.getType()).wrap().returnType())) {
+            return this.getter;
+        }
+        final MethodHandle check = MethodHandles.insertArguments(CHECK_TYPE, 0, erased, type);
+        return MethodHandles.filterReturnValue(this.getter.asType(this.getter.type().changeReturnType(Object.class)), check);
+    }
+
+    private static Object requireInstance(final @Nullable Object instance) {
+        if (instance == null) {
+            throw new IllegalArgumentException("Must pass an instance of the type for a non-static field");
+        }
+        return instance;
+    }
+
+    private static @Nullable Object checkType(final Class<?> erased, final Type type, final @Nullable Object value) {
+        if (value == null || erased.isInstance(value)) {
+            return value;
+        }
+        throw new IllegalStateException(value + " is not an instance of " + type);
+    }
+}
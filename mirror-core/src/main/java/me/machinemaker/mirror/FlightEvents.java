@@ -0,0 +1,195 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Java Flight Recorder events for resolution, class lookups and, when
+ * opted into, accessor invocations.
+ *
+ * <p>Resolution and class lookup events are always emitted and cost
+ * next to nothing unless a recording enables them. Accessor invocations
+ * are too hot for that, so they are only instrumented when the
+ * {@value #SAMPLE_RATE_PROPERTY} system property is set to a positive
+ * number n, in which case about one in n invocations is recorded. The
+ * property is read once into a static final field, so without it the
+ * accessors are exactly as they were.</p>
+ */
+final class FlightEvents {
+
+    static final String SAMPLE_RATE_PROPERTY = "mirror.jfr.accessorSampleRate";
+    private static final int SAMPLE_RATE = Integer.getInteger(SAMPLE_RATE_PROPERTY, 0);
+    private static final MethodHandle SHOULD_SAMPLE;
+    private static final MethodHandle INVOKE_SAMPLED;
+
+    static {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            SHOULD_SAMPLE = lookup.findStatic(FlightEvents.class, "shouldSample", MethodType.methodType(boolean.class, int.class));
+            INVOKE_SAMPLED = lookup.findVirtual(SampledInvocation.class, "invoke", MethodType.methodType(Object.class, Object[].class));
+        } catch (final ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private FlightEvents() {
+    }
+
+    /**
+     * Runs a finder's search inside a {@link MemberResolution} event.
+     *
+     * @param finder the finder being resolved
+     * @param query the description of the query
+     * @param search the search itself
+     * @param <M> the member type
+     * @return the found member
+     */
+    static <M extends Member> M resolve(final FuzzyFinder finder, final String query, final Supplier<M> search) {
+        final MemberResolution event = new MemberResolution();
+        event.begin();
+        @Nullable M member = null;
+        try {
+            member = search.get();
+            return member;
+        } finally {
+            if (event.shouldCommit()) {
+                event.owner = finder.owner();
+                event.query = query;
+                event.member = member == null ? null : member.toString();
+                event.found = member != null;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Wraps an accessor handle so sampled invocations are recorded as
+     * {@link AccessorInvocation} events. Returns the handle unchanged
+     * unless sampling was enabled at startup.
+     *
+     * @param handle the accessor handle
+     * @param field the field it accesses
+     * @param operation what the handle does with the field
+     * @return a handle of the same type
+     */
+    static MethodHandle sampled(final MethodHandle handle, final Field field, final String operation) {
+        if (SAMPLE_RATE <= 0) {
+            return handle;
+        }
+        return sampled(handle, field, operation, SAMPLE_RATE);
+    }
+
+    static MethodHandle sampled(final MethodHandle handle, final Field field, final String operation, final int rate) {
+        final int arity = handle.type().parameterCount();
+        final SampledInvocation invocation = new SampledInvocation(handle.asType(MethodType.genericMethodType(arity)).asSpreader(Object[].class, arity), field, operation, rate);
+        final MethodHandle recorded = INVOKE_SAMPLED.bindTo(invocation).asCollector(Object[].class, arity).asType(handle.type());
+        final MethodHandle test = MethodHandles.dropArguments(MethodHandles.insertArguments(SHOULD_SAMPLE, 0, rate), 0, handle.type().parameterList());
+        return MethodHandles.guardWithTest(test, recorded, handle);
+    }
+
+    private static boolean shouldSample(final int rate) {
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    private record SampledInvocation(MethodHandle handle, Field field, String operation, int rate) {
+
+        private @Nullable Object invoke(final @Nullable Object[] args) throws Throwable {
+            final AccessorInvocation event = new AccessorInvocation();
+            event.begin();
+            try {
+                return this.handle.invokeExact(args);
+            } finally {
+                if (event.shouldCommit()) {
+                    event.owner = this.field.getDeclaringClass();
+                    event.field = this.field.getName();
+                    event.operation = this.operation;
+                    event.sampleRate = this.rate;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    @Name("me.machinemaker.mirror.MemberResolution")
+    @Label("Member Resolution")
+    @Description("A fuzzy finder searched its owner for a member")
+    @Category({"Mirror"})
+    static final class MemberResolution extends Event {
+
+        @Label("Owner")
+        @Nullable Class<?> owner;
+
+        @Label("Query")
+        @Nullable String query;
+
+        @Label("Member")
+        @Nullable String member;
+
+        @Label("Found")
+        boolean found;
+    }
+
+    @Name("me.machinemaker.mirror.ClassLookup")
+    @Label("Class Lookup")
+    @Description("A class that wasn't cached was looked up by name")
+    @Category({"Mirror"})
+    static final class ClassLookup extends Event {
+
+        @Label("Class Name")
+        @Nullable String className;
+
+        @Label("Found")
+        boolean found;
+    }
+
+    @Name("me.machinemaker.mirror.AccessorInvocation")
+    @Label("Accessor Invocation")
+    @Description("A sampled invocation of a field accessor")
+    @Category({"Mirror"})
+    @StackTrace(false)
+    static final class AccessorInvocation extends Event {
+
+        @Label("Owner")
+        @Nullable Class<?> owner;
+
+        @Label("Field")
+        @Nullable String field;
+
+        @Label("Operation")
+        @Nullable String operation;
+
+        @Label("Sample Rate")
+        int sampleRate;
+    }
+}
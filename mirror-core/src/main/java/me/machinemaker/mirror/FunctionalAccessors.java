@@ -0,0 +1,145 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+/**
+ * Implements functional interfaces with resolved members, using the
+ * {@link LambdaMetafactory} where it can and generated classes where it can't.
+ */
+final class FunctionalAccessors {
+
+    private FunctionalAccessors() {
+    }
+
+    /**
+     * Creates a lambda for a method, the same way javac would for a method reference.
+     *
+     * @param lookup a lookup with full privilege access in the method's declaring class
+     * @param implementation a direct handle to the method
+     * @param type the functional interface
+     * @param <F> the functional interface type
+     * @return an instance of the functional interface
+     */
+    static <F> F lambda(final MethodHandles.Lookup lookup, final MethodHandle implementation, final Class<F> type) {
+        final Method sam = singleAbstractMethod(type);
+        final MethodType samType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        if (samType.parameterCount() != implementation.type().parameterCount()) {
+            throw new IllegalArgumentException(implementation + " can't implement " + sam);
+        }
+        if (lookup.hasFullPrivilegeAccess() && isVisible(type, lookup.lookupClass())) {
+            try {
+                final MethodType instantiatedType = instantiatedType(samType, implementation.type());
+                return type.cast(LambdaMetafactory.metafactory(lookup, sam.getName(), MethodType.methodType(type), samType, implementation, instantiatedType)
+                        .getTarget()
+                        .invoke());
+            } catch (final LambdaConversionException ignored) {
+                // needs a conversion the metafactory doesn't support, like a downcast
+            } catch (final Throwable e) {
+                throw new IllegalStateException("Could not create a " + type + " for " + implementation, e);
+            }
+        }
+        return generated(implementation, type);
+    }
+
+    /**
+     * Implements a functional interface with any handle, in a generated
+     * class that holds it as a constant.
+     *
+     * @param handle the handle to implement the single abstract method with
+     * @param type the functional interface
+     * @param <F> the functional interface type
+     * @return an instance of the functional interface
+     */
+    static <F> F generated(final MethodHandle handle, final Class<F> type) {
+        final Method sam = singleAbstractMethod(type);
+        final MethodHandle adapted;
+        try {
+            adapted = handle.asType(MethodType.methodType(sam.getReturnType(), sam.getParameterTypes()));
+        } catch (final WrongMethodTypeException ex) {
+            throw new IllegalArgumentException(handle + " can't implement " + sam, ex);
+        }
+        return AccessorGenerator.generate(type, method -> method.equals(sam) ? adapted : null, type.getSimpleName() + "{" + handle + "}");
+    }
+
+    private static Method singleAbstractMethod(final Class<?> type) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type + " is not an interface");
+        }
+        Method sam = null;
+        for (final Method method : type.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || AccessorGenerator.isObjectMethod(method)) {
+                continue;
+            }
+            if (sam != null && !(sam.getName().equals(method.getName()) && Arrays.equals(sam.getParameterTypes(), method.getParameterTypes()))) {
+                throw new IllegalArgumentException(type + " has more than one abstract method");
+            }
+            sam = method;
+        }
+        if (sam == null) {
+            throw new IllegalArgumentException(type + " has no abstract methods");
+        }
+        return sam;
+    }
+
+    /**
+     * The spun class lives in the lookup class's loader, which has to be
+     * able to see the interface, and the interface has to be accessible.
+     */
+    private static boolean isVisible(final Class<?> type, final Class<?> from) {
+        if (!Modifier.isPublic(type.getModifiers()) && !type.getPackageName().equals(from.getPackageName())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, from.getClassLoader()) == type;
+        } catch (final ClassNotFoundException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Specializes the erased interface method type to the implementation's
+     * types, boxing primitives where the interface takes references.
+     */
+    private static MethodType instantiatedType(final MethodType samType, final MethodType implementationType) {
+        final Class<?>[] params = new Class<?>[samType.parameterCount()];
+        for (int i = 0; i < params.length; i++) {
+            params[i] = specialize(samType.parameterType(i), implementationType.parameterType(i));
+        }
+        return MethodType.methodType(specialize(samType.returnType(), implementationType.returnType()), params);
+    }
+
+    private static Class<?> specialize(final Class<?> samType, final Class<?> implementationType) {
+        if (samType.isPrimitive()) {
+            return samType;
+        }
+        final Class<?> boxed = MethodType.methodType(implementationType).wrap().returnType();
+        return samType.isAssignableFrom(boxed) ? boxed : samType;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+/**
+ * A utility for finding constructors based on limited information.
+ */
+public sealed interface FuzzyConstructorFinder extends FuzzyFinder permits FuzzyConstructorFinderImpl {
+
+    /**
+     * Set the constructor parameter types. A constructor declared with
+     * exactly these types is preferred, otherwise the only constructor
+     * whose parameters they are assignable to is used.
+     *
+     * @param params the constructor parameter types
+     * @return this
+     */
+    FuzzyConstructorFinder params(Class<?>... params);
+
+    /**
+     * Attempt to find a matching constructor. The handle takes the
+     * constructor's parameters and returns the new instance.
+     *
+     * @return the matched constructor
+     */
+    MethodHandle find();
+
+    /**
+     * Attempt to find a matching constructor, adapted to a type so
+     * call sites can use {@link MethodHandle#invokeExact}.
+     *
+     * @param type the type to adapt the handle to
+     * @return the matched constructor with the given type
+     * @throws java.lang.invoke.WrongMethodTypeException if the constructor can't be adapted to the type
+     */
+    MethodHandle findExact(MethodType type);
+
+    /**
+     * Attempt to find a matching constructor, returning it as a factory
+     * implementing a functional interface, such as a
+     * {@link java.util.function.Supplier} for a no-argument constructor or
+     * a {@link java.util.function.Function} for a one-argument one. Where
+     * possible the factory is spun by the
+     * {@link java.lang.invoke.LambdaMetafactory} in the constructor's
+     * owner, just like a constructor reference, so it allocates as fast as
+     * {@code new} with no argument arrays.
+     *
+     * @param functionalInterface the functional interface to implement
+     * @return the matched constructor as the functional interface
+     * @param <F> the functional interface type
+     * @throws IllegalArgumentException if the interface isn't functional or doesn't fit the constructor
+     */
+    <F> F findAs(Class<F> functionalInterface);
+}
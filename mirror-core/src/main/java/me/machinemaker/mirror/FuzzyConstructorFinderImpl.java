@@ -0,0 +1,89 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+record FuzzyConstructorFinderImpl(List<Class<?>> params, Class<?> owner) implements FuzzyConstructorFinder {
+
+    FuzzyConstructorFinderImpl(final Class<?> owner) {
+        this(new ArrayList<>(), owner);
+    }
+
+    FuzzyConstructorFinderImpl { // make sure they are mutable
+        params = new ArrayList<>(params);
+    }
+
+    @Override
+    public FuzzyConstructorFinder params(final Class<?>... params) {
+        if (!this.params.isEmpty()) {
+            throw new IllegalStateException("You already set the params on this fuzzy constructor");
+        }
+        this.params.addAll(Arrays.asList(params));
+        return this;
+    }
+
+    @Override
+    public MethodHandle find() {
+        return ResolutionCache.constructorHandle(this);
+    }
+
+    @Override
+    public MethodHandle findExact(final MethodType type) {
+        return this.find().asType(type);
+    }
+
+    @Override
+    public <F> F findAs(final Class<F> functionalInterface) {
+        final Constructor<?> constructor = ResolutionCache.constructor(this);
+        try {
+            final MethodHandles.Lookup lookup = ResolutionCache.lookup(constructor.getDeclaringClass());
+            return FunctionalAccessors.lambda(lookup, lookup.unreflectConstructor(constructor), functionalInterface);
+        } catch (final IllegalAccessException ex) {
+            throw new IllegalArgumentException("Could not access the found constructor", ex);
+        }
+    }
+
+    Constructor<?> find0() {
+        return this.search(MemberIndex.of(this.owner)).orThrow();
+    }
+
+    MemberSearch<Constructor<?>> search(final MemberIndex index) {
+        final MemberIndex.ConstructorCandidates candidates = index.constructors(this.params);
+        final List<Constructor<?>> match = candidates.match();
+        final List<Constructor<?>> almostMatch = candidates.almostMatch();
+        final int count = match.size() + almostMatch.size();
+
+        if (!match.isEmpty()) {
+            return MemberSearch.found(match.get(0), ResolutionEvent.Path.UNIQUE, count);
+        } else if (almostMatch.size() == 1) {
+            return MemberSearch.found(almostMatch.get(0), ResolutionEvent.Path.ALMOST_MATCH, count);
+        } else if (almostMatch.isEmpty()) {
+            return MemberSearch.failed(new IllegalArgumentException("Could not find a constructor with " + this), count);
+        }
+        return MemberSearch.failed(new AmbiguousFuzzyException("Found multiple constructors that accept " + this + ": " + almostMatch + ". Try more specific parameter types."), count);
+    }
+}
@@ -20,18 +20,14 @@
 package me.machinemaker.mirror;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 
 /**
  * A utility for finding fields based on limited information.
  */
-public interface FuzzyFieldFinder {
-
-    /**
-     * Get the owner of the field.
-     *
-     * @return the owner type
-     */
-    Class<?> owner();
+public non-sealed interface FuzzyFieldFinder extends FuzzyFinder {
 
     /**
      * Get the type of the field.
@@ -48,14 +44,140 @@ public interface FuzzyFieldFinder {
      */
     FuzzyFieldFinder names(String... names);
 
+    /**
+     * Also search fields declared on superclasses, including private and
+     * protected ones, which are otherwise only found when public.
+     *
+     * <p>Superclasses are searched nearest first, after the owner's own
+     * fields, up to the first superclass loaded by the bootstrap loader.
+     * The flattened field table of each class is built once and
+     * reused by its subclasses, so deep hierarchies cost the same as
+     * shallow ones after the first lookup.</p>
+     *
+     * @return this
+     * @throws UnsupportedOperationException if this finder can't search superclasses
+     */
+    default FuzzyFieldFinder inherited() {
+        throw new UnsupportedOperationException(this + " can't search superclasses");
+    }
+
     /**
      * Attempt to find a matching field.
      *
+     * <p>A getter for a {@code static final} field reads it once and then
+     * returns the value as a constant the JIT can fold.</p>
+     *
      * @param accessType the type of access you want to perform
      * @return the matched field
      */
     MethodHandle find(Type accessType);
 
+    /**
+     * Attempt to find a matching field, adapted to a type so
+     * call sites can use {@link MethodHandle#invokeExact}.
+     *
+     * @param accessType the type of access you want to perform
+     * @param type the type to adapt the handle to
+     * @return the matched field with the given type
+     * @throws java.lang.invoke.WrongMethodTypeException if the field handle can't be adapted to the type
+     */
+    default MethodHandle findExact(final Type accessType, final MethodType type) {
+        return this.find(accessType).asType(type);
+    }
+
+    /**
+     * Attempt to find a matching field, adapted to a type where every
+     * parameter and the return type is {@link Object}. Call sites can then
+     * use {@link MethodHandle#invokeExact} with casts to {@code Object}.
+     *
+     * @param accessType the type of access you want to perform
+     * @return the matched field with an erased type
+     */
+    default MethodHandle findErased(final Type accessType) {
+        final MethodHandle handle = this.find(accessType);
+        return handle.asType(handle.type().generic());
+    }
+
+    /**
+     * Attempt to find a matching field, returning the getter or setter as an
+     * instance of a functional interface, like a {@link java.util.function.ToIntFunction}
+     * getter or an {@link java.util.function.ObjIntConsumer} setter. The
+     * {@link java.lang.invoke.LambdaMetafactory} can't target fields, so the
+     * instance is a generated class holding the field handle as a constant.
+     *
+     * @param accessType the type of access you want to perform
+     * @param functionalInterface the functional interface to implement
+     * @return the matched field access as the functional interface
+     * @param <F> the functional interface type
+     * @throws IllegalArgumentException if the interface isn't functional or doesn't fit the field
+     */
+    default <F> F findAs(final Type accessType, final Class<F> functionalInterface) {
+        return FunctionalAccessors.generated(this.find(accessType), functionalInterface);
+    }
+
+    /**
+     * Attempt to find a matching field, returning a {@link VarHandle} for it.
+     *
+     * @return a var handle for the matched field
+     * @throws UnsupportedOperationException if this finder can't make var handles
+     */
+    default VarHandle findVarHandle() {
+        throw new UnsupportedOperationException(this + " can't make var handles");
+    }
+
+    /**
+     * Attempt to find a matching field, returning an accessor with memory
+     * ordering and atomic updates, like compare and set, for it.
+     *
+     * @return an atomic accessor for the matched field
+     * @throws UnsupportedOperationException if this finder can't make var handles
+     */
+    default AtomicFieldAccessor findAtomic() {
+        throw new UnsupportedOperationException(this + " can't make var handles");
+    }
+
+    /**
+     * Get a handle that finds the matching field the first time it is
+     * invoked, instead of now. Once found, the handle accesses the field
+     * directly, with no check for whether it's been found yet, so it is
+     * cheap to keep many of these in {@code static final} fields.
+     *
+     * <p>Getters are {@code (Object)T} and setters {@code (Object,T)void},
+     * where {@code T} is the {@link #fieldType() field type}. For a static
+     * field the instance is ignored. A failure to find the field is
+     * thrown from the invocation.</p>
+     *
+     * @param accessType the type of access you want to perform
+     * @return a handle to the field access, found on first use
+     */
+    default MethodHandle lazy(final Type accessType) {
+        final MethodType type = accessType == Type.GETTER
+                ? MethodType.methodType(this.fieldType(), Object.class)
+                : MethodType.methodType(void.class, Object.class, this.fieldType());
+        return LazyHandles.create(type, this, accessType == Type.GETTER, () -> {
+            final MethodHandle handle = this.find(accessType);
+            if (handle.type().parameterCount() < type.parameterCount()) {
+                // a static field, the instance is ignored
+                return MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        });
+    }
+
+    /**
+     * Get a handle with the given type that finds the matching field
+     * the first time it is invoked, so call sites can use
+     * {@link MethodHandle#invokeExact}.
+     *
+     * @param accessType the type of access you want to perform
+     * @param type the type of the handle
+     * @return a handle to the field access, found on first use
+     * @see #lazy(Type)
+     */
+    default MethodHandle lazy(final Type accessType, final MethodType type) {
+        return LazyHandles.create(type, this, accessType == Type.GETTER, () -> this.find(accessType));
+    }
+
     /**
      * The type of access you want to perform.
      */
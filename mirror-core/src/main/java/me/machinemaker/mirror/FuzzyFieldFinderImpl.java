@@ -22,26 +22,59 @@ package me.machinemaker.mirror;
 import io.leangen.geantyref.GenericTypeReflector;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Set;
 
-record FuzzyFieldFinderImpl(List<String> names, Class<?> owner, Class<?> fieldType, java.lang.reflect.Type genericFieldType) implements FuzzyFieldFinder {
+final class FuzzyFieldFinderImpl implements FuzzyFieldFinder {
+
+    private final List<String> names;
+    private final Class<?> owner;
+    private final Class<?> fieldType;
+    private final java.lang.reflect.Type genericFieldType;
+    private boolean includeInherited;
 
     FuzzyFieldFinderImpl(final Class<?> owner, final Class<?> fieldType) {
-        this(new ArrayList<>(), owner, fieldType, fieldType);
+        this(new ArrayList<>(), owner, fieldType, fieldType, false);
     }
 
     FuzzyFieldFinderImpl(final Class<?> owner, final java.lang.reflect.Type fieldType) {
-        this(new ArrayList<>(), owner, GenericTypeReflector.erase(fieldType), fieldType);
+        this(new ArrayList<>(), owner, GenericTypeReflector.erase(fieldType), fieldType, false);
+    }
+
+    private FuzzyFieldFinderImpl(final List<String> names, final Class<?> owner, final Class<?> fieldType, final java.lang.reflect.Type genericFieldType, final boolean includeInherited) {
+        this.names = new ArrayList<>(names);
+        this.owner = owner;
+        this.fieldType = fieldType;
+        this.genericFieldType = genericFieldType;
+        this.includeInherited = includeInherited;
     }
 
-    FuzzyFieldFinderImpl {
-        names = new ArrayList<>(names);
+    List<String> names() {
+        return this.names;
+    }
+
+    @Override
+    public Class<?> owner() {
+        return this.owner;
+    }
+
+    @Override
+    public Class<?> fieldType() {
+        return this.fieldType;
+    }
+
+    java.lang.reflect.Type genericFieldType() {
+        return this.genericFieldType;
+    }
+
+    boolean includeInherited() {
+        return this.includeInherited;
     }
 
     @Override
@@ -50,47 +83,90 @@ record FuzzyFieldFinderImpl(List<String> names, Class<?> owner, Class<?> fieldTy
         return this;
     }
 
+    @Override
+    public FuzzyFieldFinder inherited() {
+        this.includeInherited = true;
+        return this;
+    }
+
     @Override
     public MethodHandle find(final Type accessType) {
-        try {
-            return switch (accessType) {
-                case GETTER -> MethodHandles.privateLookupIn(this.owner, Mirror.LOOKUP).unreflectGetter(this.find0());
-                case SETTER -> MethodHandles.privateLookupIn(this.owner, Mirror.LOOKUP).unreflectSetter(this.find0());
-            };
-        } catch (final IllegalAccessException ex) {
-            throw new IllegalArgumentException("Could not access the found field", ex);
-        }
+        return ResolutionCache.fieldHandle(this, accessType);
     }
 
-    Field find0() {
-        final Set<Field> fields = new LinkedHashSet<>();
-        fields.addAll(Arrays.asList(this.owner.getDeclaredFields()));
-        fields.addAll(Arrays.asList(this.owner.getFields()));
-        fields.removeIf(Field::isSynthetic);
-
-        final Set<Field> match = new LinkedHashSet<>();
-        for (final Field field : fields) {
-            if (this.fieldType.equals(field.getType())) {
-                match.add(field);
+    @Override
+    public VarHandle findVarHandle() {
+        return ResolutionCache.varHandle(this);
+    }
+
+    @Override
+    public AtomicFieldAccessor findAtomic() {
+        return AtomicFieldAccessors.compile(ResolutionCache.field(this), this.findVarHandle());
+    }
+
+    @Override
+    public MethodHandle lazy(final Type accessType) {
+        final FuzzyFieldFinderImpl finder = this.copy();
+        final MethodType type = accessType == Type.GETTER
+                ? MethodType.methodType(this.fieldType, Object.class)
+                : MethodType.methodType(void.class, Object.class, this.fieldType);
+        return LazyHandles.create(type, finder, accessType == Type.GETTER, () -> {
+            final MethodHandle handle = finder.find(accessType);
+            if (Modifier.isStatic(ResolutionCache.field(finder).getModifiers())) {
+                return MethodHandles.dropArguments(handle, 0, Object.class);
             }
-        }
+            return handle;
+        });
+    }
+
+    @Override
+    public MethodHandle lazy(final Type accessType, final MethodType type) {
+        final FuzzyFieldFinderImpl finder = this.copy();
+        return LazyHandles.create(type, finder, accessType == Type.GETTER, () -> finder.find(accessType));
+    }
+
+    @Override
+    public String toString() {
+        return "FuzzyFieldFinderImpl[" +
+                "names=" + this.names +
+                ", owner=" + this.owner +
+                ", fieldType=" + this.fieldType +
+                ", genericFieldType=" + this.genericFieldType +
+                ", includeInherited=" + this.includeInherited +
+                ']';
+    }
+
+    private FuzzyFieldFinderImpl copy() {
+        return new FuzzyFieldFinderImpl(this.names, this.owner, this.fieldType, this.genericFieldType, this.includeInherited);
+    }
+
+    Field find0() {
+        return this.find0(MemberIndex.of(this.owner));
+    }
+
+    Field find0(final MemberIndex index) {
+        return this.search(index).orThrow();
+    }
+
+    MemberSearch<Field> search(final MemberIndex index) {
+        final List<Field> match = this.includeInherited ? index.inheritedFields(this.fieldType) : index.fields(this.fieldType);
 
         if (match.isEmpty()) {
-            throw new IllegalArgumentException("Could not find a field with " + this);
+            return MemberSearch.failed(new IllegalArgumentException("Could not find a field with " + this), 0);
         } else if (match.size() == 1) {
-            return match.iterator().next();
+            return MemberSearch.found(match.get(0), ResolutionEvent.Path.UNIQUE, 1);
         }
 
         if (this.names.isEmpty()) {
-            throw new AmbiguousFuzzyException("Found multiple fields that match + " + this + ". Try adding a field name.");
+            return MemberSearch.failed(new AmbiguousFuzzyException("Found multiple fields that match + " + this + ". Try adding a field name."), match.size());
         }
         for (final Field field : match) {
             for (final String name : this.names) {
                 if (field.getName().equals(name)) {
-                    return field;
+                    return MemberSearch.found(field, ResolutionEvent.Path.BY_NAME, match.size());
                 }
             }
         }
-        throw new IllegalStateException("Found multiple fields that match, but none match any names provided. " + this + ": " + match);
+        return MemberSearch.failed(new IllegalStateException("Found multiple fields that match, but none match any names provided. " + this + ": " + match), match.size());
     }
 }
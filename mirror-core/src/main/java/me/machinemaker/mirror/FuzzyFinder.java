@@ -0,0 +1,38 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+/**
+ * A fuzzy finder for a member of some owner.
+ *
+ * @see FuzzyMethodFinder
+ * @see FuzzyFieldFinder
+ * @see FuzzyConstructorFinder
+ * @see Mirror#resolveAll(java.util.Collection)
+ */
+public sealed interface FuzzyFinder permits FuzzyMethodFinder, FuzzyFieldFinder, FuzzyConstructorFinder {
+
+    /**
+     * Get the owner of the member.
+     *
+     * @return the owner type
+     */
+    Class<?> owner();
+}
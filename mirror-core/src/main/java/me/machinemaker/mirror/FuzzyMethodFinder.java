@@ -20,18 +20,12 @@
 package me.machinemaker.mirror;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 
 /**
  * A utility for finding methods based on limited information.
  */
-public sealed interface FuzzyMethodFinder permits FuzzyMethodFinderImpl {
-
-    /**
-     * Get the owner of the method.
-     *
-     * @return the owner type
-     */
-    Class<?> owner();
+public sealed interface FuzzyMethodFinder extends FuzzyFinder permits FuzzyMethodFinderImpl {
 
     /**
      * Get the return type of the method.
@@ -62,4 +56,77 @@ public sealed interface FuzzyMethodFinder permits FuzzyMethodFinderImpl {
      * @return the matched method
      */
     MethodHandle find();
+
+    /**
+     * Attempt to find a matching method, bound to the instance it will
+     * always be called on, like a server singleton. The instance is bound
+     * with {@link MethodHandle#bindTo}, so the handle takes only the
+     * {@link #params(Class[]) parameters} and the JIT treats the instance
+     * as a constant. A static method is returned unbound.
+     *
+     * @param instance the instance to call the method on
+     * @return the matched method, bound to the instance
+     * @throws IllegalArgumentException if the instance doesn't have the method
+     */
+    MethodHandle findBound(Object instance);
+
+    /**
+     * Attempt to find a matching method, adapted to a type so
+     * call sites can use {@link MethodHandle#invokeExact}.
+     *
+     * @param type the type to adapt the handle to
+     * @return the matched method with the given type
+     * @throws java.lang.invoke.WrongMethodTypeException if the method can't be adapted to the type
+     */
+    MethodHandle findExact(MethodType type);
+
+    /**
+     * Attempt to find a matching method, adapted to a type where every
+     * parameter and the return type is {@link Object}. Call sites can then
+     * use {@link MethodHandle#invokeExact} with casts to {@code Object}.
+     *
+     * @return the matched method with an erased type
+     */
+    MethodHandle findErased();
+
+    /**
+     * Attempt to find a matching method, returning it as an instance of a
+     * functional interface. Where possible the instance is spun by the
+     * {@link java.lang.invoke.LambdaMetafactory} in the method's owner, just
+     * like a method reference, so it runs at close to direct call speed even
+     * at megamorphic call sites. The first parameter of the interface method
+     * is the instance, unless the method is static.
+     *
+     * @param functionalInterface the functional interface to implement
+     * @return the matched method as the functional interface
+     * @param <F> the functional interface type
+     * @throws IllegalArgumentException if the interface isn't functional or doesn't fit the method
+     */
+    <F> F findAs(Class<F> functionalInterface);
+
+    /**
+     * Get a handle that finds the matching method the first time it is
+     * invoked, instead of now. Once found, the handle calls the method
+     * directly, with no check for whether it's been found yet, so it is
+     * cheap to keep many of these in {@code static final} fields.
+     *
+     * <p>The handle takes the instance as its first parameter, typed as
+     * {@link Object}, followed by the {@link #params(Class[]) parameters}.
+     * For a static method the instance is ignored. A failure to find
+     * the method is thrown from the invocation.</p>
+     *
+     * @return a handle to the method, found on first use
+     */
+    MethodHandle lazy();
+
+    /**
+     * Get a handle with the given type that finds the matching method
+     * the first time it is invoked, so call sites can use
+     * {@link MethodHandle#invokeExact}.
+     *
+     * @param type the type of the handle
+     * @return a handle to the method, found on first use
+     * @see #lazy()
+     */
+    MethodHandle lazy(MethodType type);
 }
@@ -21,7 +21,9 @@ package me.machinemaker.mirror;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
@@ -39,18 +41,6 @@ record FuzzyMethodFinderImpl(List<Class<?>> params, List<String> names, Class<?>
         names = new ArrayList<>(names);
     }
 
-    static boolean parametersMatch(final Class<?>[] methodParameters, final List<Class<?>> fuzzyParameters) {
-        if (methodParameters.length != fuzzyParameters.size()) {
-            return false;
-        }
-        for (int i = 0; i < methodParameters.length; i++) {
-            if (!methodParameters[i].equals(fuzzyParameters.get(i))) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     @Override
     public FuzzyMethodFinder params(final Class<?>... params) {
         if (!this.params.isEmpty()) {
@@ -68,51 +58,99 @@ record FuzzyMethodFinderImpl(List<Class<?>> params, List<String> names, Class<?>
 
     @Override
     public MethodHandle find() {
+        return ResolutionCache.methodHandle(this);
+    }
+
+    @Override
+    public MethodHandle findBound(final Object instance) {
+        final Method method = ResolutionCache.method(this);
+        final MethodHandle handle = this.find();
+        if (Modifier.isStatic(method.getModifiers())) {
+            return handle;
+        } else if (!method.getDeclaringClass().isInstance(instance)) {
+            throw new IllegalArgumentException(instance + " is not an instance of " + method.getDeclaringClass().getName());
+        }
+        return handle.bindTo(instance);
+    }
+
+    @Override
+    public MethodHandle findExact(final MethodType type) {
+        return this.find().asType(type);
+    }
+
+    @Override
+    public MethodHandle findErased() {
+        final MethodHandle handle = this.find();
+        return handle.asType(handle.type().generic());
+    }
+
+    @Override
+    public <F> F findAs(final Class<F> functionalInterface) {
+        final Method method = ResolutionCache.method(this);
         try {
-            return MethodHandles.privateLookupIn(this.owner, Mirror.LOOKUP).unreflect(this.find0());
+            final MethodHandles.Lookup lookup = ResolutionCache.lookup(method.getDeclaringClass());
+            return FunctionalAccessors.lambda(lookup, lookup.unreflect(method), functionalInterface);
         } catch (final IllegalAccessException ex) {
             throw new IllegalArgumentException("Could not access the found method", ex);
         }
     }
 
-    Method find0() {
-        final Set<Method> methods = new LinkedHashSet<>();
-        methods.addAll(Arrays.asList(this.owner.getDeclaredMethods()));
-        methods.addAll(Arrays.asList(this.owner.getMethods()));
-        methods.removeIf(method -> method.isSynthetic() || method.isBridge());
-
-        final Set<Method> match = new LinkedHashSet<>();
-        final Set<Method> almostMatch = new LinkedHashSet<>();
-        for (final Method method : methods) {
-            if (method.getDeclaringClass().equals(Object.class)) {
-                continue; // skip these
-            }
-            if (this.returnType.equals(method.getReturnType()) && parametersMatch(method.getParameterTypes(), this.params)) {
-                match.add(method);
-            } else if (this.returnType.isAssignableFrom(method.getReturnType()) && parametersMatch(method.getParameterTypes(), this.params)) {
-                almostMatch.add(method);
+    @Override
+    public MethodHandle lazy() {
+        final FuzzyMethodFinderImpl finder = this.copy();
+        final MethodType type = MethodType.methodType(this.returnType, this.params).insertParameterTypes(0, Object.class);
+        return LazyHandles.create(type, finder, false, () -> {
+            final MethodHandle handle = finder.find();
+            if (Modifier.isStatic(ResolutionCache.method(finder).getModifiers())) {
+                return MethodHandles.dropArguments(handle, 0, Object.class);
             }
-        }
+            return handle;
+        });
+    }
+
+    @Override
+    public MethodHandle lazy(final MethodType type) {
+        final FuzzyMethodFinderImpl finder = this.copy();
+        return LazyHandles.create(type, finder, false, finder::find);
+    }
+
+    private FuzzyMethodFinderImpl copy() {
+        return new FuzzyMethodFinderImpl(this.params, this.names, this.owner, this.returnType);
+    }
+
+    Method find0() {
+        return this.find0(MemberIndex.of(this.owner));
+    }
+
+    Method find0(final MemberIndex index) {
+        return this.search(index).orThrow();
+    }
+
+    MemberSearch<Method> search(final MemberIndex index) {
+        final MemberIndex.MethodCandidates candidates = index.methods(this.returnType, this.params);
+        final List<Method> match = candidates.match();
+        final List<Method> almostMatch = candidates.almostMatch();
+        final int count = match.size() + almostMatch.size();
 
         if (match.isEmpty() && almostMatch.isEmpty()) {
-            throw new IllegalArgumentException("Could not find a method with " + this);
+            return MemberSearch.failed(new IllegalArgumentException("Could not find a method with " + this), count);
         } else if (match.size() == 1 && almostMatch.isEmpty()) {
-            return match.iterator().next();
+            return MemberSearch.found(match.get(0), ResolutionEvent.Path.UNIQUE, count);
         } else if (match.isEmpty() && almostMatch.size() == 1) {
-            return almostMatch.iterator().next();
+            return MemberSearch.found(almostMatch.get(0), ResolutionEvent.Path.ALMOST_MATCH, count);
         }
         final Set<Method> nameCheck = new LinkedHashSet<>(match);
         nameCheck.addAll(almostMatch);
         if (this.names.isEmpty()) {
-            throw new AmbiguousFuzzyException("Found multiple methods that match " + this + ": " + nameCheck + ". Try adding a method name.");
+            return MemberSearch.failed(new AmbiguousFuzzyException("Found multiple methods that match " + this + ": " + nameCheck + ". Try adding a method name."), count);
         }
         for (final Method method : nameCheck) {
             for (final String name : this.names) {
                 if (method.getName().equals(name)) {
-                    return method;
+                    return MemberSearch.found(method, ResolutionEvent.Path.BY_NAME, count);
                 }
             }
         }
-        throw new IllegalStateException("Found multiple methods that match, but none match any names provided. " + this + ": " + nameCheck);
+        return MemberSearch.failed(new IllegalStateException("Found multiple methods that match, but none match any names provided. " + this + ": " + nameCheck), count);
     }
 }
@@ -0,0 +1,56 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Combines handles that share a type into one handle calling each of them
+ * in order. The handles are folded into a balanced tree, so even long
+ * sequences stay shallow enough for the JIT to inline all of them.
+ */
+final class HandleSequences {
+
+    private HandleSequences() {
+    }
+
+    /**
+     * Combines void handles with the same type into one calling each of them in order.
+     *
+     * @param handles the handles, at least one
+     * @return the combined handle
+     */
+    static MethodHandle sequence(final List<MethodHandle> handles) {
+        if (handles.isEmpty()) {
+            throw new IllegalArgumentException("No handles to combine");
+        }
+        return fold(handles, 0, handles.size());
+    }
+
+    private static MethodHandle fold(final List<MethodHandle> handles, final int from, final int to) {
+        if (to - from == 1) {
+            return handles.get(from);
+        }
+        final int middle = (from + to) >>> 1;
+        return MethodHandles.foldArguments(fold(handles, middle, to), fold(handles, from, middle));
+    }
+}
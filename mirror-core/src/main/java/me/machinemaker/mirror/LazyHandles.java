@@ -0,0 +1,138 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Handles that resolve their target the first time they're invoked.
+ *
+ * <p>Each handle is the dynamic invoker of a {@link MutableCallSite} whose
+ * first target resolves the real one, relinks the site to it and syncs.
+ * From then on the site's target is the resolved handle itself, so there
+ * is no initialization check left on the hot path and the JIT treats the
+ * target like a constant.</p>
+ *
+ * <p>Lazy handles are registered weakly with their linker, so
+ * {@link Warmup} can find and link the ones stored on a holder.</p>
+ */
+final class LazyHandles {
+
+    private static final MethodHandle LINK;
+    private static final Map<MethodHandle, Linker> LINKERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    static {
+        try {
+            LINK = MethodHandles.lookup().findVirtual(Linker.class, "link", MethodType.methodType(Object.class, Object[].class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private LazyHandles() {
+    }
+
+    /**
+     * Creates a handle that resolves its target on first use.
+     *
+     * @param type the type of the handle, the resolved target is adapted to it
+     * @param finder the finder the target is resolved with
+     * @param getter whether the target is a field getter, and so safe to call to warm it up
+     * @param resolver resolves the target, run again on the next call if it throws
+     * @return the lazy handle
+     */
+    static MethodHandle create(final MethodType type, final FuzzyFinder finder, final boolean getter, final Supplier<MethodHandle> resolver) {
+        final MutableCallSite site = new MutableCallSite(type);
+        final Linker linker = new Linker(site, finder, getter, resolver);
+        site.setTarget(LINK.bindTo(linker).asCollector(Object[].class, type.parameterCount()).asType(type));
+        final MethodHandle handle = site.dynamicInvoker();
+        LINKERS.put(handle, linker);
+        return handle;
+    }
+
+    /**
+     * Gets the linker behind a lazy handle.
+     *
+     * @param handle a handle
+     * @return the linker, or null if the handle isn't lazy
+     */
+    static @Nullable Linker linker(final MethodHandle handle) {
+        return LINKERS.get(handle);
+    }
+
+    static final class Linker {
+
+        private final MutableCallSite site;
+        private final FuzzyFinder finder;
+        private final boolean getter;
+        private final Supplier<MethodHandle> resolver;
+        private volatile @Nullable MethodHandle target;
+
+        private Linker(final MutableCallSite site, final FuzzyFinder finder, final boolean getter, final Supplier<MethodHandle> resolver) {
+            this.site = site;
+            this.finder = finder;
+            this.getter = getter;
+            this.resolver = resolver;
+        }
+
+        FuzzyFinder finder() {
+            return this.finder;
+        }
+
+        boolean getter() {
+            return this.getter;
+        }
+
+        @SuppressWarnings("unused") // called through LINK
+        private Object link(final Object[] args) throws Throwable {
+            return this.target().invokeWithArguments(args);
+        }
+
+        /**
+         * Resolves the target and relinks the call site to it, if that
+         * hasn't happened yet.
+         *
+         * @return the resolved target
+         */
+        MethodHandle target() {
+            @Nullable MethodHandle target = this.target;
+            if (target == null) {
+                synchronized (this) {
+                    target = this.target;
+                    if (target == null) {
+                        target = this.resolver.get().asType(this.site.type());
+                        this.site.setTarget(target);
+                        MutableCallSite.syncAll(new MutableCallSite[]{this.site});
+                        this.target = target;
+                    }
+                }
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of an owner's members for the fuzzy finders. Fields are
+ * bucketed by type and methods by parameter types, so a query only looks
+ * at the members that could match instead of rescanning the class.
+ * Members are kept in the order the finders have always checked them,
+ * declared members first, then inherited public ones.
+ */
+final class MemberIndex {
+
+    private static final ScopedClassValue<MemberIndex> INDEXES = new ScopedClassValue<>(MemberIndex::new);
+
+    private final Class<?> owner;
+    private final Map<MethodQuery, MethodCandidates> methodCandidates = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<Class<?>, List<Field>> fieldsByType;
+    private volatile @Nullable Map<Class<?>, List<Field>> inheritedFieldsByType;
+    private volatile @Nullable Map<List<Class<?>>, List<Method>> methodsByParams;
+    private volatile @Nullable List<Constructor<?>> constructors;
+
+    /**
+     * Creates an index that isn't shared, {@link #of} should be used
+     * for anything but measuring how long the index takes to build.
+     *
+     * @param owner the class to index
+     */
+    MemberIndex(final Class<?> owner) {
+        this.owner = owner;
+    }
+
+    static MemberIndex of(final Class<?> owner) {
+        return INDEXES.get(owner);
+    }
+
+    /**
+     * Gets the fields with exactly the given type.
+     *
+     * @param type the field type
+     * @return the matching fields
+     */
+    List<Field> fields(final Class<?> type) {
+        return this.fieldsByType().getOrDefault(type, List.of());
+    }
+
+    /**
+     * Gets the fields with exactly the given type, including non-public
+     * fields declared on superclasses, nearest class first. The walk stops
+     * at the first superclass loaded by the bootstrap loader.
+     *
+     * @param type the field type
+     * @return the matching fields
+     */
+    List<Field> inheritedFields(final Class<?> type) {
+        return this.inheritedFieldsByType().getOrDefault(type, List.of());
+    }
+
+    /**
+     * Gets the methods with the given parameter types, split into those
+     * with the exact return type and those with an assignable return type.
+     *
+     * @param returnType the return type
+     * @param params the parameter types
+     * @return the matching methods
+     */
+    MethodCandidates methods(final Class<?> returnType, final List<Class<?>> params) {
+        final MethodQuery query = new MethodQuery(returnType, List.copyOf(params));
+        final @Nullable MethodCandidates cached = this.methodCandidates.get(query);
+        if (cached != null) {
+            return cached;
+        }
+        final List<Method> match = new ArrayList<>();
+        final List<Method> almostMatch = new ArrayList<>();
+        for (final Method method : this.methodsByParams().getOrDefault(query.params(), List.of())) {
+            if (returnType.equals(method.getReturnType())) {
+                match.add(method);
+            } else if (returnType.isAssignableFrom(method.getReturnType())) {
+                almostMatch.add(method);
+            }
+        }
+        final MethodCandidates candidates = new MethodCandidates(List.copyOf(match), List.copyOf(almostMatch));
+        final @Nullable MethodCandidates existing = this.methodCandidates.putIfAbsent(query, candidates);
+        return existing != null ? existing : candidates;
+    }
+
+    /**
+     * Gets the constructors that accept the given parameter types, split
+     * into the one declared with exactly those types and those that take
+     * supertypes of them.
+     *
+     * @param params the parameter types
+     * @return the matching constructors
+     */
+    ConstructorCandidates constructors(final List<Class<?>> params) {
+        final List<Constructor<?>> match = new ArrayList<>();
+        final List<Constructor<?>> almostMatch = new ArrayList<>();
+        for (final Constructor<?> constructor : this.declaredConstructors()) {
+            final Class<?>[] types = constructor.getParameterTypes();
+            if (List.of(types).equals(params)) {
+                match.add(constructor);
+            } else if (accepts(types, params)) {
+                almostMatch.add(constructor);
+            }
+        }
+        return new ConstructorCandidates(List.copyOf(match), List.copyOf(almostMatch));
+    }
+
+    /**
+     * Counts the fields field queries look through.
+     *
+     * @return the number of indexed fields and the classes declaring them
+     */
+    Scan fieldScan() {
+        return scan(this.fieldsByType().values());
+    }
+
+    /**
+     * Counts the fields inherited field queries look through, those of
+     * the owner and every superclass.
+     *
+     * @return the number of indexed fields and the classes declaring them
+     */
+    Scan inheritedFieldScan() {
+        return scan(this.inheritedFieldsByType().values());
+    }
+
+    /**
+     * Counts the methods method queries look through.
+     *
+     * @return the number of indexed methods and the classes declaring them
+     */
+    Scan methodScan() {
+        return scan(this.methodsByParams().values());
+    }
+
+    /**
+     * Counts the constructors constructor queries look through.
+     *
+     * @return the number of constructors
+     */
+    Scan constructorScan() {
+        return new Scan(1, this.declaredConstructors().size());
+    }
+
+    private static Scan scan(final Collection<? extends List<? extends Member>> buckets) {
+        final Set<Class<?>> classes = new HashSet<>();
+        int members = 0;
+        for (final List<? extends Member> bucket : buckets) {
+            for (final Member member : bucket) {
+                classes.add(member.getDeclaringClass());
+                members++;
+            }
+        }
+        return new Scan(classes.size(), members);
+    }
+
+    private static boolean accepts(final Class<?>[] types, final List<Class<?>> params) {
+        if (types.length != params.size()) {
+            return false;
+        }
+        for (int i = 0; i < types.length; i++) {
+            if (!types[i].isAssignableFrom(params.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private List<Constructor<?>> declaredConstructors() {
+        @Nullable List<Constructor<?>> constructors = this.constructors;
+        if (constructors == null) {
+            constructors = Arrays.stream(this.owner.getDeclaredConstructors()).filter(constructor -> !constructor.isSynthetic()).toList();
+            this.constructors = constructors;
+        }
+        return constructors;
+    }
+
+    private Map<Class<?>, List<Field>> fieldsByType() {
+        @Nullable Map<Class<?>, List<Field>> fieldsByType = this.fieldsByType;
+        if (fieldsByType == null) {
+            final Set<Field> fields = new LinkedHashSet<>();
+            fields.addAll(Arrays.asList(this.owner.getDeclaredFields()));
+            fields.addAll(Arrays.asList(this.owner.getFields()));
+            fields.removeIf(Field::isSynthetic);
+
+            final Map<Class<?>, List<Field>> buckets = new LinkedHashMap<>();
+            for (final Field field : fields) {
+                buckets.computeIfAbsent(field.getType(), ignored -> new ArrayList<>()).add(field);
+            }
+            buckets.replaceAll((ignored, bucket) -> List.copyOf(bucket));
+            fieldsByType = Map.copyOf(buckets);
+            this.fieldsByType = fieldsByType;
+        }
+        return fieldsByType;
+    }
+
+    /**
+     * Flattens this class's fields with its superclass's flattened table,
+     * which is built once through the superclass's own index and shared by
+     * every subclass. Buckets a subclass doesn't add to are the parent's
+     * own lists. A class's own part is its declared fields, so public
+     * fields it inherits keep their superclass's place, behind nearer
+     * private ones. Bootstrap-loaded superclasses aren't flattened, their
+     * non-public fields can't be opened and would only keep an index
+     * of every JDK class up to {@link Object} alive.
+     */
+    private Map<Class<?>, List<Field>> inheritedFieldsByType() {
+        @Nullable Map<Class<?>, List<Field>> inheritedFieldsByType = this.inheritedFieldsByType;
+        if (inheritedFieldsByType == null) {
+            final @Nullable Class<?> superclass = this.owner.getSuperclass();
+            if (superclass == null || superclass.getClassLoader() == null) {
+                inheritedFieldsByType = this.fieldsByType();
+            } else {
+                final Map<Class<?>, List<Field>> parent = of(superclass).inheritedFieldsByType();
+                final Map<Class<?>, List<Field>> own = this.fieldsByType();
+                if (own.isEmpty()) {
+                    inheritedFieldsByType = parent;
+                } else {
+                    final Map<Class<?>, Set<Field>> declared = new HashMap<>();
+                    for (final Field field : this.owner.getDeclaredFields()) {
+                        if (!field.isSynthetic()) {
+                            declared.computeIfAbsent(field.getType(), ignored -> new LinkedHashSet<>()).add(field);
+                        }
+                    }
+                    final Map<Class<?>, List<Field>> flattened = new HashMap<>(parent);
+                    own.forEach((type, fields) -> {
+                        // declared fields, then the superclasses', then public ones from interfaces or JDK superclasses
+                        final Set<Field> merged = declared.getOrDefault(type, new LinkedHashSet<>());
+                        merged.addAll(parent.getOrDefault(type, List.of()));
+                        merged.addAll(fields);
+                        flattened.put(type, List.copyOf(merged));
+                    });
+                    inheritedFieldsByType = Map.copyOf(flattened);
+                }
+            }
+            this.inheritedFieldsByType = inheritedFieldsByType;
+        }
+        return inheritedFieldsByType;
+    }
+
+    private Map<List<Class<?>>, List<Method>> methodsByParams() {
+        @Nullable Map<List<Class<?>>, List<Method>> methodsByParams = this.methodsByParams;
+        if (methodsByParams == null) {
+            final Set<Method> methods = new LinkedHashSet<>();
+            methods.addAll(Arrays.asList(this.owner.getDeclaredMethods()));
+            methods.addAll(Arrays.asList(this.owner.getMethods()));
+            methods.removeIf(method -> method.isSynthetic() || method.isBridge() || method.getDeclaringClass().equals(Object.class));
+
+            final Map<List<Class<?>>, List<Method>> buckets = new LinkedHashMap<>();
+            for (final Method method : methods) {
+                buckets.computeIfAbsent(List.of(method.getParameterTypes()), ignored -> new ArrayList<>()).add(method);
+            }
+            buckets.replaceAll((ignored, bucket) -> List.copyOf(bucket));
+            methodsByParams = Map.copyOf(buckets);
+            this.methodsByParams = methodsByParams;
+        }
+        return methodsByParams;
+    }
+
+    /**
+     * Methods matching a query.
+     *
+     * @param match methods with the exact return type
+     * @param almostMatch methods with an assignable return type
+     */
+    record MethodCandidates(List<Method> match, List<Method> almostMatch) {
+    }
+
+    /**
+     * Constructors matching a query.
+     *
+     * @param match the constructor with the exact parameter types, if any
+     * @param almostMatch constructors with parameters the query's types are assignable to
+     */
+    record ConstructorCandidates(List<Constructor<?>> match, List<Constructor<?>> almostMatch) {
+    }
+
+    /**
+     * The size of one kind of indexed member.
+     *
+     * @param classes how many classes declared the members
+     * @param members how many members there are
+     */
+    record Scan(int classes, int members) {
+    }
+
+    private record MethodQuery(Class<?> returnType, List<Class<?>> params) {
+    }
+}
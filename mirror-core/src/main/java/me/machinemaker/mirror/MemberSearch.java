@@ -0,0 +1,63 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Member;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The outcome of a finder searching a {@link MemberIndex}, with how the
+ * member was chosen, so {@link Metrics} can report the path the finder
+ * actually took.
+ *
+ * @param member the member that was found, or null if the search failed
+ * @param failure why the search failed, a runtime exception or linkage error, or null if it succeeded
+ * @param path how the member was chosen
+ * @param candidates how many members matched the type signature
+ * @param <M> the member type
+ */
+record MemberSearch<M extends Member>(@Nullable M member, @Nullable Throwable failure, ResolutionEvent.Path path, int candidates) {
+
+    static <M extends Member> MemberSearch<M> found(final M member, final ResolutionEvent.Path path, final int candidates) {
+        return new MemberSearch<>(member, null, path, candidates);
+    }
+
+    static <M extends Member> MemberSearch<M> failed(final RuntimeException failure, final int candidates) {
+        return new MemberSearch<>(null, failure, ResolutionEvent.Path.FAILED, candidates);
+    }
+
+    static <M extends Member> MemberSearch<M> failed(final LinkageError failure, final int candidates) {
+        return new MemberSearch<>(null, failure, ResolutionEvent.Path.FAILED, candidates);
+    }
+
+    /**
+     * Gets the member, or throws why it wasn't found.
+     *
+     * @return the member
+     */
+    M orThrow() {
+        if (this.failure instanceof final LinkageError error) {
+            throw error;
+        } else if (this.failure != null) {
+            throw (RuntimeException) this.failure;
+        }
+        return this.member;
+    }
+}
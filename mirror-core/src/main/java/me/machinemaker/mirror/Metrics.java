@@ -0,0 +1,199 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Member;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Global resolution counters and listeners. Everything is guarded by a
+ * single volatile flag, so while metrics are disabled a resolution only
+ * pays for reading it. The flag is set while metrics were enabled
+ * explicitly or any listener is registered. Resolutions are classified
+ * by the {@link MemberSearch} the finder returns, so the reported path is
+ * the one the finder took.
+ */
+final class Metrics {
+
+    private static final LongAdder RESOLUTIONS = new LongAdder();
+    private static final LongAdder CACHE_HITS = new LongAdder();
+    private static final LongAdder PERSISTENT_CACHE_HITS = new LongAdder();
+    private static final LongAdder FAILURES = new LongAdder();
+    private static final LongAdder CLASS_NOT_FOUND = new LongAdder();
+    private static final LongAdder RESOLUTION_NANOS = new LongAdder();
+    private static final List<Consumer<? super ResolutionEvent>> LISTENERS = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled;
+    private static boolean requested;
+
+    private Metrics() {
+    }
+
+    static synchronized void enable() {
+        requested = true;
+        update();
+    }
+
+    static synchronized void disable() {
+        requested = false;
+        update();
+    }
+
+    static synchronized void addListener(final Consumer<? super ResolutionEvent> listener) {
+        LISTENERS.add(listener);
+        update();
+    }
+
+    static synchronized void removeListener(final Consumer<? super ResolutionEvent> listener) {
+        LISTENERS.remove(listener);
+        update();
+    }
+
+    static boolean enabled() {
+        return enabled;
+    }
+
+    private static void update() {
+        enabled = requested || !LISTENERS.isEmpty();
+    }
+
+    static void cacheHit() {
+        if (enabled) {
+            CACHE_HITS.increment();
+        }
+    }
+
+    static void persistentCacheHit() {
+        if (enabled) {
+            PERSISTENT_CACHE_HITS.increment();
+        }
+    }
+
+    static void classNotFound() {
+        if (enabled) {
+            CLASS_NOT_FOUND.increment();
+        }
+    }
+
+    /**
+     * Runs a finder's search, timing and reporting it if metrics are enabled.
+     *
+     * @param finder the finder being resolved
+     * @param query the description of the query
+     * @param search the search itself
+     * @param <M> the member type
+     * @return the found member
+     */
+    static <M extends Member> M resolve(final FuzzyFinder finder, final String query, final Supplier<MemberSearch<M>> search) {
+        if (!enabled) {
+            return search.get().orThrow();
+        }
+        final long start = System.nanoTime();
+        MemberSearch<M> result;
+        try {
+            result = search.get();
+        } catch (final RuntimeException ex) {
+            result = MemberSearch.failed(ex, 0);
+        } catch (final LinkageError ex) {
+            // a missing class in the owner's signatures, counted as a failure like in resolveAll
+            result = MemberSearch.failed(ex, 0);
+        }
+        record(finder, query, result, System.nanoTime() - start);
+        return result.orThrow();
+    }
+
+    static MirrorMetrics snapshot() {
+        return new MirrorMetrics(RESOLUTIONS.sum(), CACHE_HITS.sum(), PERSISTENT_CACHE_HITS.sum(), FAILURES.sum(), CLASS_NOT_FOUND.sum(), RESOLUTION_NANOS.sum());
+    }
+
+    static void reset() {
+        RESOLUTIONS.reset();
+        CACHE_HITS.reset();
+        PERSISTENT_CACHE_HITS.reset();
+        FAILURES.reset();
+        CLASS_NOT_FOUND.reset();
+        RESOLUTION_NANOS.reset();
+    }
+
+    static ObjectName registerMBean(final String name) {
+        try {
+            final ObjectName objectName = new ObjectName("me.machinemaker.mirror:type=Metrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new MBean(), objectName);
+            return objectName;
+        } catch (final JMException ex) {
+            throw new IllegalStateException("Could not register the metrics MBean " + name, ex);
+        }
+    }
+
+    private static void record(final FuzzyFinder finder, final String query, final MemberSearch<?> search, final long nanos) {
+        RESOLUTIONS.increment();
+        RESOLUTION_NANOS.add(nanos);
+        if (search.failure() != null) {
+            FAILURES.increment();
+        }
+        if (LISTENERS.isEmpty()) {
+            return;
+        }
+        final ResolutionEvent event = new ResolutionEvent(finder, query, search.path(), search.candidates(), search.member(), search.failure(), nanos);
+        for (final Consumer<? super ResolutionEvent> listener : LISTENERS) {
+            listener.accept(event);
+        }
+    }
+
+    private static final class MBean implements MirrorMetricsMXBean {
+
+        @Override
+        public long getResolutions() {
+            return RESOLUTIONS.sum();
+        }
+
+        @Override
+        public long getCacheHits() {
+            return CACHE_HITS.sum();
+        }
+
+        @Override
+        public long getPersistentCacheHits() {
+            return PERSISTENT_CACHE_HITS.sum();
+        }
+
+        @Override
+        public long getFailures() {
+            return FAILURES.sum();
+        }
+
+        @Override
+        public long getClassNotFound() {
+            return CLASS_NOT_FOUND.sum();
+        }
+
+        @Override
+        public long getResolutionNanos() {
+            return RESOLUTION_NANOS.sum();
+        }
+    }
+}
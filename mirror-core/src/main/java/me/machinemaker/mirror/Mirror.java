@@ -19,9 +19,16 @@
  */
 package me.machinemaker.mirror;
 
+import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Type;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import javax.management.ObjectName;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.framework.qual.DefaultQualifier;
@@ -33,6 +40,7 @@ import org.checkerframework.framework.qual.DefaultQualifier;
 public final class Mirror {
 
     static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final @Nullable ClassLoader LOADER = Mirror.class.getClassLoader();
 
     private Mirror() {
     }
@@ -48,6 +56,16 @@ public final class Mirror {
         return new FuzzyMethodFinderImpl(owner, returnType);
     }
 
+    /**
+     * Create a fuzzy constructor finder.
+     *
+     * @param owner the class whose constructor you are looking for
+     * @return a new fuzzy constructor finder
+     */
+    public static FuzzyConstructorFinder fuzzyConstructor(final Class<?> owner) {
+        return new FuzzyConstructorFinderImpl(owner);
+    }
+
     /**
      * Create a fuzzy field finder.
      *
@@ -70,6 +88,346 @@ public final class Mirror {
         return new FuzzyFieldFinderImpl(owner, genericFieldType);
     }
 
+    /**
+     * Create a builder for a copier of every instance field of a type,
+     * including the fields declared by its superclasses, up to the first
+     * superclass loaded by the bootstrap loader.
+     *
+     * <pre>{@code
+     * final FieldCopier<Entity> copier = Mirror.copier(Entity.class)
+     *     .filter(field -> !field.getName().equals("level"))
+     *     .<List<?>>deepCopy(List.class, ArrayList::new)
+     *     .build();
+     * copier.copy(entity, snapshot);
+     * }</pre>
+     *
+     * @param type the type to copy
+     * @return a new copier builder
+     * @param <T> the type to copy
+     */
+    public static <T> FieldCopier.Builder<T> copier(final Class<T> type) {
+        return new FieldCopierBuilder<>(type);
+    }
+
+    /**
+     * Create a builder for a codec writing primitive fields of a type to
+     * buffers and reading them back.
+     *
+     * <pre>{@code
+     * final SnapshotCodec<Entity> codec = Mirror.snapshotCodec(Entity.class)
+     *     .field(Mirror.fuzzyField(Entity.class, double.class).names("x"))
+     *     .field(Mirror.fuzzyField(Entity.class, float.class).names("health"))
+     *     .build();
+     * final ByteBuffer buffer = ByteBuffer.allocateDirect(codec.size() * entities.size());
+     * entities.forEach(entity -> codec.write(entity, buffer));
+     * }</pre>
+     *
+     * @param type the type to snapshot
+     * @return a new snapshot codec builder
+     * @param <T> the type to snapshot
+     */
+    public static <T> SnapshotCodec.Builder<T> snapshotCodec(final Class<T> type) {
+        return new SnapshotCodecBuilder<>(type);
+    }
+
+    /**
+     * Resolve many finders at once, reporting every failure together
+     * instead of stopping at the first.
+     *
+     * <p>Finders are grouped by owner so each class is only searched once,
+     * and different owners are resolved in parallel. Resolutions are
+     * memoized, so the {@code find} methods on resolved finders return
+     * right away afterwards.</p>
+     *
+     * <pre>{@code
+     * final FuzzyMethodFinder tick = Mirror.fuzzyMethod(levelClass, void.class).names("tick");
+     * final FuzzyFieldFinder health = Mirror.fuzzyField(entityClass, float.class).names("health");
+     * Mirror.resolveAll(List.of(tick, health)).orThrow();
+     * }</pre>
+     *
+     * @param finders the finders to resolve
+     * @return the outcome for every finder
+     */
+    public static Resolution resolveAll(final Collection<? extends FuzzyFinder> finders) {
+        return BatchResolver.resolveAll(finders);
+    }
+
+    /**
+     * Warm up the finders and lazy handles stored on a holder with the
+     * {@link WarmupOptions#defaults() default options}.
+     *
+     * @param holder a class to warm up the static fields of, or an object to warm up the fields of
+     * @return a future completed once everything has been resolved
+     * @see #warmup(Object, WarmupOptions)
+     */
+    public static CompletableFuture<Resolution> warmup(final Object holder) {
+        return warmup(holder, WarmupOptions.defaults());
+    }
+
+    /**
+     * Warm up the finders and lazy handles stored on a holder.
+     *
+     * <p>Every {@link FuzzyFinder} and {@link FuzzyMethodFinder#lazy() lazy handle}
+     * in the holder's fields is resolved on a virtual thread, at most
+     * {@link WarmupOptions#parallelism()} at a time, and lazy handles are
+     * linked, so the first real call doesn't pay for it. Field getters can
+     * also be called, which initializes the classes they read and folds
+     * {@code static final} fields to constants. Enough calls get the
+     * getter handles themselves compiled, but not the code that will call
+     * them, which the JIT only compiles once it runs. The returned future
+     * never completes exceptionally, failures, including errors, are
+     * reported in the {@link Resolution}.</p>
+     *
+     * <pre>{@code
+     * Mirror.warmup(MyReflection.class).get(5, TimeUnit.SECONDS).orThrow();
+     * }</pre>
+     *
+     * @param holder a class to warm up the static fields of, or an object to warm up the fields of
+     * @param options the warmup options
+     * @return a future completed once everything has been resolved
+     */
+    public static CompletableFuture<Resolution> warmup(final Object holder, final WarmupOptions options) {
+        return Warmup.warmup(holder, options);
+    }
+
+    /**
+     * A bootstrap method linking an {@code invokedynamic} call site to an
+     * instance method found with a {@link #fuzzyMethod(Class, Class) fuzzy method finder}.
+     * The call site is constant, so calls through it inline like a direct call.
+     *
+     * <p>The call site name is passed as a {@linkplain FuzzyMethodFinder#names(String...) name}
+     * to disambiguate with, and the resolved member is adapted to the call
+     * site type, so the call site can use types like {@link Object} in
+     * place of classes it can't refer to directly. Primitive classes can be
+     * passed as static arguments with {@link java.lang.invoke.ConstantBootstraps#primitiveClass}.
+     * Exceptions thrown while linking are wrapped in a
+     * {@link java.lang.BootstrapMethodError} by the JVM.</p>
+     *
+     * <p>The caller's lookup isn't used. Members are accessed with mirror's
+     * own private access, the same as through a finder, so a call site can
+     * reach members its caller couldn't. The JVM already resolved the owner
+     * and the call site type with the caller's class loader, so there is
+     * nothing left to check against it.</p>
+     *
+     * @param lookup the caller lookup, supplied by the JVM, unused
+     * @param name the call site name, used as a possible method name
+     * @param type the call site type, with the instance as the first parameter
+     * @param owner the owner of the method
+     * @param signature the return type then parameter types to search for,
+     *     or nothing to use the call site type without the instance
+     * @return a constant call site for the method
+     * @throws IllegalArgumentException if no matching method was found
+     */
+    public static CallSite bootstrapFuzzyMethod(final MethodHandles.Lookup lookup, final String name, final MethodType type, final Class<?> owner, final Class<?>... signature) {
+        return Bootstraps.method(name, type, owner, signature, false);
+    }
+
+    /**
+     * A bootstrap method linking an {@code invokedynamic} call site to a
+     * static method found with a {@link #fuzzyMethod(Class, Class) fuzzy method finder}.
+     *
+     * <p>The call site name and type are used the same way as in
+     * {@link #bootstrapFuzzyMethod}.</p>
+     *
+     * @param lookup the caller lookup, supplied by the JVM, unused like in {@link #bootstrapFuzzyMethod}
+     * @param name the call site name, used as a possible method name
+     * @param type the call site type
+     * @param owner the owner of the method
+     * @param signature the return type then parameter types to search for,
+     *     or nothing to use the call site type
+     * @return a constant call site for the method
+     * @throws IllegalArgumentException if no matching method was found
+     */
+    public static CallSite bootstrapFuzzyStaticMethod(final MethodHandles.Lookup lookup, final String name, final MethodType type, final Class<?> owner, final Class<?>... signature) {
+        return Bootstraps.method(name, type, owner, signature, true);
+    }
+
+    /**
+     * A bootstrap method linking an {@code invokedynamic} call site to a
+     * getter for a field found with a {@link #fuzzyField(Class, Class) fuzzy field finder}.
+     * The call site type is {@code (Owner)T} for instance fields and
+     * {@code ()T} for static fields.
+     *
+     * <p>The call site name and type are used the same way as in
+     * {@link #bootstrapFuzzyMethod}.</p>
+     *
+     * @param lookup the caller lookup, supplied by the JVM, unused like in {@link #bootstrapFuzzyMethod}
+     * @param name the call site name, used as a possible field name
+     * @param type the call site type
+     * @param owner the owner of the field
+     * @param fieldType the field type to search for, or nothing to use the call site return type
+     * @return a constant call site for the getter
+     * @throws IllegalArgumentException if no matching field was found
+     */
+    public static CallSite bootstrapFuzzyGetter(final MethodHandles.Lookup lookup, final String name, final MethodType type, final Class<?> owner, final Class<?>... fieldType) {
+        return Bootstraps.field(name, type, owner, fieldType, FuzzyFieldFinder.Type.GETTER);
+    }
+
+    /**
+     * A bootstrap method linking an {@code invokedynamic} call site to a
+     * setter for a field found with a {@link #fuzzyField(Class, Class) fuzzy field finder}.
+     * The call site type is {@code (Owner,T)void} for instance fields and
+     * {@code (T)void} for static fields.
+     *
+     * <p>The call site name and type are used the same way as in
+     * {@link #bootstrapFuzzyMethod}.</p>
+     *
+     * @param lookup the caller lookup, supplied by the JVM, unused like in {@link #bootstrapFuzzyMethod}
+     * @param name the call site name, used as a possible field name
+     * @param type the call site type
+     * @param owner the owner of the field
+     * @param fieldType the field type to search for, or nothing to use the call site's last parameter type
+     * @return a constant call site for the setter
+     * @throws IllegalArgumentException if no matching field was found
+     */
+    public static CallSite bootstrapFuzzySetter(final MethodHandles.Lookup lookup, final String name, final MethodType type, final Class<?> owner, final Class<?>... fieldType) {
+        return Bootstraps.field(name, type, owner, fieldType, FuzzyFieldFinder.Type.SETTER);
+    }
+
+    /**
+     * Create an implementation of a proxy interface.
+     *
+     * <p>Every abstract method must be annotated with a
+     * {@link me.machinemaker.mirror.proxy.Getter}, {@link me.machinemaker.mirror.proxy.Setter}
+     * or {@link me.machinemaker.mirror.proxy.Invoker}, and the interface or method with
+     * an {@link me.machinemaker.mirror.proxy.Owner}. All members are resolved with the
+     * fuzzy finders up front, and the generated class calls them directly, so
+     * the JIT can inline through the proxy. Exceptions thrown by the members
+     * are rethrown unwrapped.</p>
+     *
+     * <pre>{@code
+     * @Owner(names = "net.minecraft.world.entity.LivingEntity")
+     * interface LivingEntityProxy {
+     *     @Getter("health") float health(Object entity);
+     *     @Setter("health") void health(Object entity, float health);
+     *     @Invoker("heal") void heal(Object entity, float amount);
+     * }
+     * }</pre>
+     *
+     * @param type the proxy interface
+     * @return a new proxy implementation
+     * @param <T> the proxy type
+     * @throws IllegalArgumentException if a member couldn't be resolved or doesn't fit its method
+     */
+    public static <T> T proxy(final Class<T> type) {
+        return ProxyFactory.create(type);
+    }
+
+    /**
+     * Persist fuzzy resolutions to a file, so later runs can skip
+     * searching for members that haven't changed.
+     *
+     * <p>Each resolution records the member it chose along with a hash of
+     * the owner's class file. On later runs, queries against an owner with
+     * the same hash look the member up directly, and anything else is
+     * resolved normally and recorded again. Existing entries are loaded
+     * immediately.</p>
+     *
+     * @param file the cache file, created if it doesn't exist
+     * @throws java.io.UncheckedIOException if the file exists but couldn't be read
+     */
+    public static void enablePersistentCache(final Path file) {
+        PersistentCache.enable(file);
+    }
+
+    /**
+     * Stop using the persistent cache enabled by {@link #enablePersistentCache(Path)}.
+     * Resolutions already made in this run stay cached in memory.
+     */
+    public static void disablePersistentCache() {
+        PersistentCache.disable();
+    }
+
+    /**
+     * Start recording resolution metrics.
+     *
+     * <p>While enabled, every search for a member is timed and counted,
+     * along with in-memory and persistent cache hits and class lookup
+     * misses. Read the counters with {@link #metrics()}. While disabled,
+     * nothing is recorded and resolution pays only for checking the
+     * flag.</p>
+     */
+    public static void enableMetrics() {
+        Metrics.enable();
+    }
+
+    /**
+     * Stop recording resolution metrics. The counters keep their values.
+     * Metrics are still recorded while any
+     * {@linkplain #addResolutionListener(Consumer) resolution listener} is
+     * registered.
+     */
+    public static void disableMetrics() {
+        Metrics.disable();
+    }
+
+    /**
+     * Get a snapshot of the resolution counters.
+     *
+     * @return the current counters
+     * @see #enableMetrics()
+     */
+    public static MirrorMetrics metrics() {
+        return Metrics.snapshot();
+    }
+
+    /**
+     * Reset the resolution counters to zero.
+     */
+    public static void resetMetrics() {
+        Metrics.reset();
+    }
+
+    /**
+     * Add a listener that is told about every search for a member, with
+     * the query, how many candidates there were, how the member was
+     * chosen and how long it took. Listeners are called on the resolving
+     * thread. Metrics are recorded while any listener is registered, and
+     * once the last one is removed they are only recorded if they were
+     * enabled with {@link #enableMetrics()}.
+     *
+     * @param listener the listener
+     */
+    public static void addResolutionListener(final Consumer<? super ResolutionEvent> listener) {
+        Metrics.addListener(listener);
+    }
+
+    /**
+     * Remove a listener added with {@link #addResolutionListener(Consumer)}.
+     *
+     * @param listener the listener
+     */
+    public static void removeResolutionListener(final Consumer<? super ResolutionEvent> listener) {
+        Metrics.removeListener(listener);
+    }
+
+    /**
+     * Start collecting a report of every resolution from now until the
+     * report is closed. Call this before startup resolves anything, and
+     * close the report when startup is done. Starting a report enables
+     * metrics.
+     *
+     * @return the open report
+     * @see ResolutionReport#summary()
+     */
+    public static ResolutionReport startResolutionReport() {
+        return new ResolutionReport();
+    }
+
+    /**
+     * Register the resolution counters with the platform MBean server as
+     * a {@link MirrorMetricsMXBean}. The name is part of the object name,
+     * so separate copies of Mirror, such as ones shaded into different
+     * plugins, can each register their own.
+     *
+     * @param name a name unique to this copy of Mirror
+     * @return the object name the bean was registered under
+     * @throws IllegalStateException if the bean couldn't be registered
+     */
+    public static ObjectName registerMetricsMBean(final String name) {
+        return Metrics.registerMBean(name);
+    }
+
     /**
      * Get a class by its canonical name.
      *
@@ -79,7 +437,7 @@ public final class Mirror {
      */
     public static Class<?> getClass(final String name) {
         try {
-            return Class.forName(name);
+            return ClassCache.load(LOADER, name);
         } catch (final ClassNotFoundException ex) {
             throw new IllegalArgumentException("Could not find a class with name " + name, ex);
         }
@@ -93,13 +451,11 @@ public final class Mirror {
      * @throws IllegalArgumentException if no names matched a class
      */
     public static Class<?> findClass(final String... names) {
-        for (final String name : names) {
-            try {
-                return Class.forName(name);
-            } catch (final ClassNotFoundException ignored) {
-            }
+        final @Nullable Class<?> type = maybeFindClass(names);
+        if (type == null) {
+            throw new IllegalArgumentException("None of " + Arrays.toString(names) + " could be matched to a class");
         }
-        throw new IllegalArgumentException("None of " + Arrays.toString(names) + " could be matched to a class");
+        return type;
     }
 
     /**
@@ -110,11 +466,7 @@ public final class Mirror {
      * @return the class or null if not found
      */
     public static @Nullable Class<?> maybeGetClass(final String name) {
-        try {
-            return Class.forName(name);
-        } catch (final ClassNotFoundException ex) {
-            return null;
-        }
+        return ClassCache.find(LOADER, name);
     }
 
     /**
@@ -126,11 +478,23 @@ public final class Mirror {
      */
     public static @Nullable Class<?> maybeFindClass(final String... names) {
         for (final String name : names) {
-            try {
-                return Class.forName(name);
-            } catch (final ClassNotFoundException ignored) {
+            final @Nullable Class<?> type = ClassCache.find(LOADER, name);
+            if (type != null) {
+                return type;
             }
         }
         return null;
     }
+
+    /**
+     * Forget which class names could and couldn't be found.
+     *
+     * <p>Class lookups are cached, including misses, so probing a list
+     * of names for different versions only throws and catches a
+     * {@link ClassNotFoundException} the first time. Clear the cache if
+     * classes that were missing may have become available.</p>
+     */
+    public static void clearClassCache() {
+        ClassCache.clear();
+    }
 }
@@ -0,0 +1,34 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+/**
+ * A snapshot of Mirror's global counters, from {@link Mirror#metrics()}.
+ * Counters only advance while metrics are enabled.
+ *
+ * @param resolutions how many times an owner was searched for a member
+ * @param cacheHits how many resolutions were answered from memory
+ * @param persistentCacheHits how many resolutions were answered from the persistent cache
+ * @param failures how many searches didn't find a member
+ * @param classNotFound how many class lookups missed, not counting cached misses
+ * @param resolutionNanos the total time spent searching, in nanoseconds
+ */
+public record MirrorMetrics(long resolutions, long cacheHits, long persistentCacheHits, long failures, long classNotFound, long resolutionNanos) {
+}
@@ -0,0 +1,69 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+/**
+ * The JMX view of {@link MirrorMetrics}, registered with
+ * {@link Mirror#registerMetricsMBean(String)}.
+ */
+public interface MirrorMetricsMXBean {
+
+    /**
+     * Get the number of times an owner was searched for a member.
+     *
+     * @return the resolution count
+     */
+    long getResolutions();
+
+    /**
+     * Get the number of resolutions answered from memory.
+     *
+     * @return the cache hit count
+     */
+    long getCacheHits();
+
+    /**
+     * Get the number of resolutions answered from the persistent cache.
+     *
+     * @return the persistent cache hit count
+     */
+    long getPersistentCacheHits();
+
+    /**
+     * Get the number of searches that didn't find a member.
+     *
+     * @return the failure count
+     */
+    long getFailures();
+
+    /**
+     * Get the number of class lookups that missed.
+     *
+     * @return the class miss count
+     */
+    long getClassNotFound();
+
+    /**
+     * Get the total time spent searching for members.
+     *
+     * @return the time in nanoseconds
+     */
+    long getResolutionNanos();
+}
@@ -0,0 +1,262 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Remembers which member each fuzzy query resolved to across restarts.
+ *
+ * <p>Each line of the file maps an owner, a hash of its class file and a
+ * query to the declaring class, name and descriptor of the chosen member.
+ * The hash covers the class files of the owner's superclasses and
+ * interfaces too, since the finders also pick inherited members. Lines
+ * are appended while running, and a later line for the same key wins.
+ * An entry is only used while the owner still hashes the same, and if its
+ * member can't be looked up anymore the query is resolved normally.</p>
+ *
+ * <p>When loaded, only the entries for the owner's most recently recorded
+ * hash are kept, and the file is rewritten without the superseded lines
+ * if there were any, so it doesn't grow with every changed class.</p>
+ */
+final class PersistentCache {
+
+    private static final String SEPARATOR = "\t";
+    private static final int KEY_PARTS = 3;
+    private static final int VALUE_PARTS = 4;
+    private static final String VIRTUAL = "virtual";
+    private static final String STATIC = "static";
+    private static final String FIELD = "field";
+    private static final String STATIC_FIELD = "static-field";
+    private static final String CONSTRUCTOR = "constructor";
+
+    private static final ClassValue<String> FINGERPRINTS = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return fingerprint(type);
+        }
+    };
+
+    private static volatile @Nullable PersistentCache instance;
+
+    private final Path file;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+    PersistentCache(final Path file) {
+        this.file = file;
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (final NoSuchFileException ignored) {
+            return;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not read the resolution cache " + file, ex);
+        }
+        final List<String[]> parsed = new ArrayList<>(lines.size());
+        final Map<String, String> fingerprints = new HashMap<>();
+        for (final String line : lines) {
+            final String[] parts = line.split(SEPARATOR, KEY_PARTS + 1);
+            if (parts.length == KEY_PARTS + 1) {
+                parsed.add(parts);
+                fingerprints.put(parts[0], parts[1]);
+            }
+        }
+        for (final String[] parts : parsed) {
+            if (parts[1].equals(fingerprints.get(parts[0]))) {
+                this.entries.put(String.join(SEPARATOR, parts[0], parts[1], parts[2]), parts[KEY_PARTS]);
+            }
+        }
+        if (this.entries.size() < lines.size()) {
+            this.compact();
+        }
+    }
+
+    static @Nullable PersistentCache get() {
+        return instance;
+    }
+
+    static void enable(final Path file) {
+        instance = new PersistentCache(file);
+    }
+
+    static void disable() {
+        instance = null;
+    }
+
+    /**
+     * Looks up the handle a query resolved to on a previous run.
+     *
+     * @param owner the owner the query was made against
+     * @param query a description of the query
+     * @return a direct handle, or null if there is no usable entry
+     */
+    @Nullable MethodHandle find(final Class<?> owner, final String query) {
+        final @Nullable String key = key(owner, query);
+        final @Nullable String entry = key == null ? null : this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final String[] parts = entry.split(SEPARATOR);
+        if (parts.length != VALUE_PARTS) {
+            return null;
+        }
+        try {
+            final Class<?> declaringClass = Class.forName(parts[1], false, owner.getClassLoader());
+            final MethodHandles.Lookup lookup = ResolutionCache.lookup(declaringClass);
+            final String name = parts[2];
+            final MethodType type = MethodType.fromMethodDescriptorString(parts[3], declaringClass.getClassLoader());
+            return switch (parts[0]) {
+                case VIRTUAL -> lookup.findVirtual(declaringClass, name, type);
+                case STATIC -> lookup.findStatic(declaringClass, name, type);
+                case FIELD -> lookup.findGetter(declaringClass, name, type.returnType());
+                case STATIC_FIELD -> lookup.findStaticGetter(declaringClass, name, type.returnType());
+                case CONSTRUCTOR -> lookup.findConstructor(declaringClass, type);
+                default -> null;
+            };
+        } catch (final ReflectiveOperationException | TypeNotPresentException | IllegalArgumentException ex) {
+            return null; // the entry is stale, resolve normally
+        }
+    }
+
+    /**
+     * Records the member a query resolved to.
+     *
+     * @param owner the owner the query was made against
+     * @param query a description of the query
+     * @param member the resolved member
+     */
+    void record(final Class<?> owner, final String query, final Member member) {
+        final @Nullable String key = key(owner, query);
+        if (key == null) {
+            return;
+        }
+        final boolean isStatic = Modifier.isStatic(member.getModifiers());
+        final String kind;
+        final String descriptor;
+        if (member instanceof final Method method) {
+            kind = isStatic ? STATIC : VIRTUAL;
+            descriptor = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+        } else if (member instanceof final Constructor<?> constructor) {
+            kind = CONSTRUCTOR;
+            descriptor = MethodType.methodType(void.class, constructor.getParameterTypes()).toMethodDescriptorString();
+        } else {
+            kind = isStatic ? STATIC_FIELD : FIELD;
+            descriptor = MethodType.methodType(((Field) member).getType()).toMethodDescriptorString();
+        }
+        final String entry = String.join(SEPARATOR, kind, member.getDeclaringClass().getName(), member.getName(), descriptor);
+        if (entry.equals(this.entries.put(key, entry))) {
+            return;
+        }
+        synchronized (this) {
+            try {
+                Files.writeString(this.file, key + SEPARATOR + entry + System.lineSeparator(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            } catch (final IOException ignored) {
+                // the cache only saves time, a failed write just means resolving again next run
+            }
+        }
+    }
+
+    /**
+     * Rewrites the file with only the current entries. The new file is
+     * moved over the old one, so a failure leaves the old file intact.
+     */
+    private synchronized void compact() {
+        final List<String> lines = new ArrayList<>(this.entries.size());
+        this.entries.forEach((key, entry) -> lines.add(key + SEPARATOR + entry));
+        try {
+            final Path temp = Files.createTempFile(this.file.toAbsolutePath().getParent(), this.file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, lines, StandardCharsets.UTF_8);
+                Files.move(temp, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException ignored) {
+            // the superseded lines are dropped again on the next load
+        }
+    }
+
+    private static @Nullable String key(final Class<?> owner, final String query) {
+        final String fingerprint = FINGERPRINTS.get(owner);
+        if (fingerprint.isEmpty()) {
+            return null;
+        }
+        return String.join(SEPARATOR, owner.getName(), fingerprint, query);
+    }
+
+    /**
+     * Hashes the class file of a class along with the fingerprints of
+     * its superclass and interfaces.
+     *
+     * @param type the class
+     * @return the fingerprint, or empty if any class file couldn't be read
+     */
+    private static String fingerprint(final Class<?> type) {
+        if (type.isHidden() || type.isArray() || type.isPrimitive()) {
+            return "";
+        }
+        try (@Nullable InputStream in = type.getResourceAsStream("/" + type.getName().replace('.', '/') + ".class")) {
+            if (in == null) {
+                return "";
+            }
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(in.readAllBytes());
+            final List<Class<?>> supertypes = new ArrayList<>(List.of(type.getInterfaces()));
+            if (type.getSuperclass() != null) {
+                supertypes.add(0, type.getSuperclass());
+            }
+            for (final Class<?> supertype : supertypes) {
+                final String fingerprint = FINGERPRINTS.get(supertype);
+                if (fingerprint.isEmpty()) {
+                    return "";
+                }
+                digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (final IOException | NoSuchAlgorithmException ex) {
+            return "";
+        }
+    }
+}
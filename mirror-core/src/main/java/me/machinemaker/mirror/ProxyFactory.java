@@ -0,0 +1,116 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import me.machinemaker.mirror.proxy.Getter;
+import me.machinemaker.mirror.proxy.Invoker;
+import me.machinemaker.mirror.proxy.Owner;
+import me.machinemaker.mirror.proxy.Setter;
+import me.machinemaker.mirror.proxy.TypeName;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves the members described by a proxy interface's annotations
+ * and implements it with the {@link AccessorGenerator}.
+ */
+final class ProxyFactory {
+
+    private ProxyFactory() {
+    }
+
+    static <T> T create(final Class<T> type) {
+        return AccessorGenerator.generate(type, method -> implement(type, method), type.getSimpleName() + "{proxy}");
+    }
+
+    private static @Nullable MethodHandle implement(final Class<?> type, final Method method) {
+        final @Nullable Getter getter = method.getAnnotation(Getter.class);
+        final @Nullable Setter setter = method.getAnnotation(Setter.class);
+        final @Nullable Invoker invoker = method.getAnnotation(Invoker.class);
+        final MethodHandle handle;
+        if (getter != null) {
+            final FuzzyFieldFinder finder = new FuzzyFieldFinderImpl(owner(type, method), type(method, method.getReturnType())).names(getter.value());
+            handle = finder.find(FuzzyFieldFinder.Type.GETTER);
+        } else if (setter != null) {
+            if (method.getParameterCount() == 0) {
+                throw new IllegalArgumentException(method + " is a setter without a value parameter");
+            }
+            final Parameter value = method.getParameters()[method.getParameterCount() - 1];
+            final Class<?> fieldType = value.isAnnotationPresent(TypeName.class) ? type(value, value.getType()) : type(method, value.getType());
+            final FuzzyFieldFinder finder = new FuzzyFieldFinderImpl(owner(type, method), fieldType).names(setter.value());
+            handle = finder.find(FuzzyFieldFinder.Type.SETTER);
+        } else if (invoker != null) {
+            final Parameter[] parameters = method.getParameters();
+            final Class<?>[] params = new Class<?>[invoker.isStatic() ? parameters.length : parameters.length - 1];
+            for (int i = 0; i < params.length; i++) {
+                final Parameter parameter = parameters[parameters.length - params.length + i];
+                params[i] = type(parameter, parameter.getType());
+            }
+            final FuzzyMethodFinder finder = new FuzzyMethodFinderImpl(owner(type, method), type(method, method.getReturnType())).params(params).names(invoker.value());
+            handle = finder.find();
+        } else {
+            return null;
+        }
+        return adapt(handle, method);
+    }
+
+    private static MethodHandle adapt(final MethodHandle handle, final Method method) {
+        MethodHandle adapted = handle;
+        if (handle.type().parameterCount() == method.getParameterCount() - 1) {
+            adapted = MethodHandles.dropArguments(handle, 0, Object.class); // static member with an unused instance parameter
+        }
+        try {
+            return adapted.asType(MethodType.methodType(method.getReturnType(), method.getParameterTypes()));
+        } catch (final WrongMethodTypeException | IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Resolved " + handle + " does not fit " + method, ex);
+        }
+    }
+
+    private static Class<?> owner(final Class<?> type, final Method method) {
+        final @Nullable Owner owner = method.isAnnotationPresent(Owner.class) ? method.getAnnotation(Owner.class) : type.getAnnotation(Owner.class);
+        if (owner == null) {
+            throw new IllegalArgumentException("No @Owner on " + method + " or " + type);
+        } else if (owner.value() != void.class) {
+            return owner.value();
+        } else if (owner.names().length > 0) {
+            return Mirror.findClass(owner.names());
+        }
+        throw new IllegalArgumentException("@Owner on " + method + " or " + type + " has neither a class nor names");
+    }
+
+    private static Class<?> type(final AnnotatedElement element, final Class<?> declared) {
+        final @Nullable TypeName typeName = element.getAnnotation(TypeName.class);
+        if (typeName == null) {
+            return declared;
+        }
+        try {
+            return Mirror.findClass(typeName.value());
+        } catch (final IllegalArgumentException ex) {
+            throw new IllegalArgumentException("None of " + Arrays.toString(typeName.value()) + " on " + element + " could be matched to a class", ex);
+        }
+    }
+}
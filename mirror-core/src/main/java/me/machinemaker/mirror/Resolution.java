@@ -0,0 +1,84 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.List;
+
+/**
+ * The outcome of resolving many finders at once with
+ * {@link Mirror#resolveAll(java.util.Collection)}. Resolved finders are
+ * memoized, so calling their {@code find} methods afterwards is cheap.
+ *
+ * @param resolved the finders that resolved, in the order they were given
+ * @param failures the finders that didn't resolve, in the order they were given
+ */
+public record Resolution(List<FuzzyFinder> resolved, List<Failure> failures) {
+
+    /**
+     * Creates a resolution.
+     *
+     * @param resolved the finders that resolved
+     * @param failures the finders that didn't resolve
+     */
+    public Resolution {
+        resolved = List.copyOf(resolved);
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * Check if every finder resolved.
+     *
+     * @return true if there were no failures
+     */
+    public boolean successful() {
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * Throws if any finder failed to resolve.
+     *
+     * @return this
+     * @throws IllegalArgumentException listing every failure, each cause added as suppressed
+     */
+    public Resolution orThrow() {
+        if (this.successful()) {
+            return this;
+        }
+        final StringBuilder message = new StringBuilder("Could not resolve ").append(this.failures.size()).append(" of ")
+                .append(this.failures.size() + this.resolved.size()).append(" finders:");
+        for (final Failure failure : this.failures) {
+            message.append(System.lineSeparator()).append("  ").append(failure.finder()).append(": ").append(failure.cause().getMessage());
+        }
+        final IllegalArgumentException ex = new IllegalArgumentException(message.toString());
+        for (final Failure failure : this.failures) {
+            ex.addSuppressed(failure.cause());
+        }
+        throw ex;
+    }
+
+    /**
+     * A finder that didn't resolve.
+     *
+     * @param finder the finder
+     * @param cause why it didn't resolve, an exception or a linkage error like a missing class
+     */
+    public record Failure(FuzzyFinder finder, Throwable cause) {
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Memoizes fuzzy resolutions and the private lookups used to unreflect
+ * them. Everything is stored per owner in a {@link ScopedClassValue}, so
+ * it goes away with whichever of the owner's and mirror's class loaders
+ * goes first. Misses consult the
+ * {@link PersistentCache} first when one is enabled, and searches are
+ * timed by {@link Metrics} and {@link FlightEvents}.
+ */
+final class ResolutionCache {
+
+    private static final ScopedClassValue<Owner> OWNERS = new ScopedClassValue<>(Owner::new);
+
+    private ResolutionCache() {
+    }
+
+    static MethodHandles.Lookup lookup(final Class<?> type) throws IllegalAccessException {
+        return OWNERS.get(type).lookup();
+    }
+
+    static Method method(final FuzzyMethodFinderImpl finder) {
+        final MethodQuery query = new MethodQuery(finder.returnType(), List.copyOf(finder.params()), List.copyOf(finder.names()));
+        return (Method) OWNERS.get(finder.owner()).member(query, query.describe(), Access.INVOKE, search(finder, query.describe(), () -> finder.search(MemberIndex.of(finder.owner()))));
+    }
+
+    static Field field(final FuzzyFieldFinderImpl finder) {
+        final FieldQuery query = new FieldQuery(finder.fieldType(), List.copyOf(finder.names()), finder.includeInherited());
+        return (Field) OWNERS.get(finder.owner()).member(query, query.describe(), Access.GET, search(finder, query.describe(), () -> finder.search(MemberIndex.of(finder.owner()))));
+    }
+
+    static Constructor<?> constructor(final FuzzyConstructorFinderImpl finder) {
+        final ConstructorQuery query = new ConstructorQuery(List.copyOf(finder.params()));
+        return (Constructor<?>) OWNERS.get(finder.owner()).member(query, query.describe(), Access.CONSTRUCT, search(finder, query.describe(), () -> finder.search(MemberIndex.of(finder.owner()))));
+    }
+
+    static MethodHandle methodHandle(final FuzzyMethodFinderImpl finder) {
+        final Method method = method(finder);
+        return OWNERS.get(finder.owner()).handle(method, Access.INVOKE);
+    }
+
+    static MethodHandle constructorHandle(final FuzzyConstructorFinderImpl finder) {
+        final Constructor<?> constructor = constructor(finder);
+        return OWNERS.get(finder.owner()).handle(constructor, Access.CONSTRUCT);
+    }
+
+    static MethodHandle fieldHandle(final FuzzyFieldFinderImpl finder, final FuzzyFieldFinder.Type accessType) {
+        final Field field = field(finder);
+        return OWNERS.get(finder.owner()).handle(field, accessType == FuzzyFieldFinder.Type.GETTER ? Access.GET : Access.SET);
+    }
+
+    static VarHandle varHandle(final FuzzyFieldFinderImpl finder) {
+        final Field field = field(finder);
+        return OWNERS.get(finder.owner()).varHandles.computeIfAbsent(field, ignored -> {
+            try {
+                return lookup(field.getDeclaringClass()).unreflectVarHandle(field);
+            } catch (final IllegalAccessException ex) {
+                throw new IllegalArgumentException("Could not access the found field", ex);
+            }
+        });
+    }
+
+    private static <M extends Member> Supplier<Member> search(final FuzzyFinder finder, final String query, final Supplier<MemberSearch<M>> search) {
+        return () -> FlightEvents.resolve(finder, query, () -> Metrics.resolve(finder, query, search));
+    }
+
+    private enum Access {
+        INVOKE("method"), GET("field"), SET("field"), CONSTRUCT("constructor");
+
+        private final String member;
+
+        Access(final String member) {
+            this.member = member;
+        }
+    }
+
+    private record MethodQuery(Class<?> returnType, List<Class<?>> params, List<String> names) {
+
+        private String describe() {
+            return "method " + MethodType.methodType(this.returnType, this.params).toMethodDescriptorString() + " " + this.names;
+        }
+    }
+
+    private record FieldQuery(Class<?> fieldType, List<String> names, boolean inherited) {
+
+        private String describe() {
+            return (this.inherited ? "inherited field " : "field ") + this.fieldType.descriptorString() + " " + this.names;
+        }
+    }
+
+    private record ConstructorQuery(List<Class<?>> params) {
+
+        private String describe() {
+            return "constructor " + MethodType.methodType(void.class, this.params).toMethodDescriptorString();
+        }
+    }
+
+    private record HandleKey(Member member, Access access) {
+    }
+
+    private static final class Owner {
+
+        private final Class<?> type;
+        private final Map<Object, Member> members = new ConcurrentHashMap<>();
+        private final Map<HandleKey, MethodHandle> handles = new ConcurrentHashMap<>();
+        private final Map<Field, VarHandle> varHandles = new ConcurrentHashMap<>();
+        private volatile MethodHandles.@Nullable Lookup lookup;
+
+        private Owner(final Class<?> type) {
+            this.type = type;
+        }
+
+        private MethodHandles.Lookup lookup() throws IllegalAccessException {
+            MethodHandles.@Nullable Lookup lookup = this.lookup;
+            if (lookup == null) {
+                lookup = MethodHandles.privateLookupIn(this.type, Mirror.LOOKUP);
+                this.lookup = lookup;
+            }
+            return lookup;
+        }
+
+        /**
+         * Gets the member a query resolved to, resolving it on a miss. The
+         * search runs outside the map's lock, so resolution listeners and
+         * the persistent cache may resolve against the same owner; if two
+         * threads race, the first member stored wins.
+         */
+        private Member member(final Object key, final String query, final Access access, final Supplier<Member> finder) {
+            final @Nullable Member cached = this.members.get(key);
+            if (cached != null) {
+                Metrics.cacheHit();
+                return cached;
+            }
+            final Member member = this.resolve(query, access, finder);
+            final @Nullable Member existing = this.members.putIfAbsent(key, member);
+            return existing != null ? existing : member;
+        }
+
+        private Member resolve(final String query, final Access access, final Supplier<Member> finder) {
+            final @Nullable PersistentCache persistent = PersistentCache.get();
+            if (persistent == null) {
+                return finder.get();
+            }
+            final @Nullable MethodHandle handle = persistent.find(this.type, query);
+            if (handle != null) {
+                final Member member = MethodHandles.reflectAs(Member.class, handle);
+                this.handles.putIfAbsent(new HandleKey(member, access), member instanceof final Field field ? ConstantFields.getter(field, handle) : handle);
+                Metrics.persistentCacheHit();
+                return member;
+            }
+            final Member member = finder.get();
+            persistent.record(this.type, query, member);
+            return member;
+        }
+
+        private MethodHandle handle(final Member member, final Access access) {
+            final HandleKey key = new HandleKey(member, access);
+            final @Nullable MethodHandle cached = this.handles.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            final MethodHandle handle;
+            try {
+                // non-public members of superclasses are only accessible from their own class
+                final MethodHandles.Lookup lookup = member.getDeclaringClass() == this.type || Modifier.isPublic(member.getModifiers())
+                        ? this.lookup()
+                        : ResolutionCache.lookup(member.getDeclaringClass());
+                handle = switch (access) {
+                    case INVOKE -> lookup.unreflect((Method) member);
+                    case GET -> ConstantFields.getter((Field) member, lookup.unreflectGetter((Field) member));
+                    case SET -> lookup.unreflectSetter((Field) member);
+                    case CONSTRUCT -> lookup.unreflectConstructor((Constructor<?>) member);
+                };
+            } catch (final IllegalAccessException ex) {
+                throw new IllegalArgumentException("Could not access the found " + access.member, ex);
+            }
+            final @Nullable MethodHandle existing = this.handles.putIfAbsent(key, handle);
+            return existing != null ? existing : handle;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Member;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A single fuzzy resolution, reported to listeners added with
+ * {@link Mirror#addResolutionListener(java.util.function.Consumer)}.
+ * Only resolutions that actually searched the owner are reported, not
+ * those answered from memory or the persistent cache.
+ *
+ * @param finder the finder that was resolved
+ * @param query a description of what the finder searched for
+ * @param path how the member was chosen
+ * @param candidates how many members matched the type signature
+ * @param member the member that was found, or null if the resolution failed
+ * @param failure why the resolution failed, a runtime exception or linkage error, or null if it succeeded
+ * @param nanos how long the search took, in nanoseconds
+ */
+public record ResolutionEvent(FuzzyFinder finder, String query, Path path, int candidates, @Nullable Member member, @Nullable Throwable failure, long nanos) {
+
+    /**
+     * Get the owner the member was searched for in.
+     *
+     * @return the owner type
+     */
+    public Class<?> owner() {
+        return this.finder.owner();
+    }
+
+    /**
+     * How a resolution chose its member.
+     */
+    public enum Path {
+        /**
+         * Exactly one member matched the signature.
+         */
+        UNIQUE,
+        /**
+         * No member matched exactly, and exactly one method had an
+         * assignable return type, or one constructor had assignable
+         * parameters.
+         */
+        ALMOST_MATCH,
+        /**
+         * Several members matched, and one was picked by name.
+         */
+        BY_NAME,
+        /**
+         * No member could be chosen.
+         */
+        FAILED
+    }
+}
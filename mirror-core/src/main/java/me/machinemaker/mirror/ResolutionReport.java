@@ -0,0 +1,170 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Member;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Collects every fuzzy resolution made while it is open, to find the
+ * lookups that dominate startup and the ones that only work by luck.
+ * Start one with {@link Mirror#startResolutionReport()} before resolving
+ * anything, close it once startup is done, then read the
+ * {@link #summary()} or {@link #write(Path) write} it out.
+ *
+ * <p>Resolutions answered from memory or the persistent cache didn't
+ * search anything, so they aren't part of the report.</p>
+ */
+public final class ResolutionReport implements AutoCloseable {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final Consumer<ResolutionEvent> listener = this::record;
+
+    ResolutionReport() {
+        Metrics.addListener(this.listener);
+    }
+
+    /**
+     * Get the collected resolutions, most expensive first.
+     *
+     * @return the resolutions
+     */
+    public List<Entry> entries() {
+        final List<Entry> sorted = new ArrayList<>(this.entries);
+        sorted.sort(Comparator.comparingLong(Entry::nanos).reversed());
+        return List.copyOf(sorted);
+    }
+
+    /**
+     * Get the total time spent resolving.
+     *
+     * @return the time in nanoseconds
+     */
+    public long totalNanos() {
+        long total = 0;
+        for (final Entry entry : this.entries) {
+            total += entry.nanos();
+        }
+        return total;
+    }
+
+    /**
+     * Build a human-readable summary. It ranks every resolution by cost,
+     * then lists the ones that needed a name to pick between several
+     * candidates, the ones that only matched through an assignable
+     * return type, and the ones that failed. The last three are the
+     * likeliest to break on a new server version.
+     *
+     * @return the summary
+     */
+    public String summary() {
+        final List<Entry> entries = this.entries();
+        final StringBuilder summary = new StringBuilder("Mirror resolution report: ").append(entries.size()).append(" resolutions in ")
+                .append(millis(this.totalNanos())).append(System.lineSeparator());
+        section(summary, "By cost", entries);
+        section(summary, "Picked by name from several candidates", entries.stream().filter(entry -> entry.path() == ResolutionEvent.Path.BY_NAME).toList());
+        section(summary, "Matched only through an assignable return type", entries.stream().filter(entry -> entry.path() == ResolutionEvent.Path.ALMOST_MATCH).toList());
+        section(summary, "Failed", entries.stream().filter(entry -> entry.path() == ResolutionEvent.Path.FAILED).toList());
+        return summary.toString();
+    }
+
+    /**
+     * Write the {@link #summary()} to a file, replacing it if it exists.
+     *
+     * @param file the file
+     * @throws UncheckedIOException if the file couldn't be written
+     */
+    public void write(final Path file) {
+        try {
+            Files.writeString(file, this.summary(), StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Could not write the resolution report to " + file, ex);
+        }
+    }
+
+    /**
+     * Stop collecting resolutions. Metrics are left enabled only if
+     * {@link Mirror#enableMetrics()} was called or other listeners remain.
+     */
+    @Override
+    public void close() {
+        Metrics.removeListener(this.listener);
+    }
+
+    private void record(final ResolutionEvent event) {
+        final MemberIndex index = MemberIndex.of(event.owner());
+        final MemberIndex.Scan scan = switch (event.finder()) {
+            case final FuzzyMethodFinder ignored -> index.methodScan();
+            case final FuzzyFieldFinderImpl field -> field.includeInherited() ? index.inheritedFieldScan() : index.fieldScan();
+            case final FuzzyFieldFinder ignored -> index.fieldScan();
+            case final FuzzyConstructorFinder ignored -> index.constructorScan();
+        };
+        this.entries.add(new Entry(event.owner(), event.query(), event.path(), event.candidates(), scan.classes(), scan.members(), event.nanos(), event.member()));
+    }
+
+    private static void section(final StringBuilder summary, final String title, final List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        summary.append(System.lineSeparator()).append(title).append(" (").append(entries.size()).append("):").append(System.lineSeparator());
+        for (final Entry entry : entries) {
+            summary.append("  ").append(millis(entry.nanos())).append("  ").append(entry.owner().getName()).append(' ').append(entry.query())
+                    .append("  ").append(entry.path()).append(", ").append(entry.candidates()).append(" candidates, ")
+                    .append(entry.membersScanned()).append(" members in ").append(entry.classesScanned()).append(" classes");
+            if (entry.member() != null) {
+                summary.append(" -> ").append(entry.member());
+            }
+            summary.append(System.lineSeparator());
+        }
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * One resolution.
+     *
+     * @param owner the owner that was searched
+     * @param query a description of what was searched for
+     * @param path how the member was chosen
+     * @param candidates how many members matched the type signature
+     * @param classesScanned how many classes declared the members that were searched
+     * @param membersScanned how many members of the right kind the owner has
+     * @param nanos how long the search took, in nanoseconds
+     * @param member the member that was found, or null if the resolution failed
+     */
+    public record Entry(Class<?> owner, String query, ResolutionEvent.Path path, int candidates, int classesScanned, int membersScanned, long nanos, @Nullable Member member) {
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Computes a value per class like a {@link ClassValue}, without letting
+ * the value keep mirror's class loader alive.
+ *
+ * <p>A {@link ClassValue} stores its value on the class, so caching
+ * mirror's own objects on server or JDK classes would pin mirror's loader
+ * for as long as those classes live (JDK-8136353). Only classes whose
+ * loader delegates to mirror's, which can't outlive it, get the value
+ * stored on them. Values for every other class are held here, weakly
+ * keyed by the class, and go away with mirror's loader instead. Those
+ * values reference their class, so they are held softly; otherwise a
+ * class from an unrelated loader, like another plugin's, could never be
+ * unloaded. A value cleared under memory pressure is computed again.</p>
+ *
+ * @param <T> the value type
+ */
+final class ScopedClassValue<T> {
+
+    private static final @Nullable ClassLoader LOADER = ScopedClassValue.class.getClassLoader();
+
+    private final Function<Class<?>, T> factory;
+    private final ClassValue<T> scoped;
+    private final Map<Class<?>, SoftReference<T>> foreign = Collections.synchronizedMap(new WeakHashMap<>());
+
+    ScopedClassValue(final Function<Class<?>, T> factory) {
+        this.factory = factory;
+        this.scoped = new ClassValue<>() {
+            @Override
+            protected T computeValue(final Class<?> type) {
+                return factory.apply(type);
+            }
+        };
+    }
+
+    /**
+     * Checks if the class's loader is mirror's loader or delegates to it.
+     *
+     * @param type the class
+     * @return true if the class can't outlive mirror's loader
+     */
+    static boolean isScoped(final Class<?> type) {
+        if (LOADER == null) {
+            return true;
+        }
+        for (@Nullable ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == LOADER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    T get(final Class<?> type) {
+        if (isScoped(type)) {
+            return this.scoped.get(type);
+        }
+        synchronized (this.foreign) {
+            final @Nullable SoftReference<T> cached = this.foreign.get(type);
+            final @Nullable T value = cached == null ? null : cached.get();
+            if (value != null) {
+                return value;
+            }
+        }
+        // computed outside the lock, the factory may look up other classes
+        final T value = this.factory.apply(type);
+        synchronized (this.foreign) {
+            final @Nullable SoftReference<T> raced = this.foreign.get(type);
+            final @Nullable T existing = raced == null ? null : raced.get();
+            if (existing != null) {
+                return existing;
+            }
+            this.foreign.put(type, new SoftReference<>(value));
+            return value;
+        }
+    }
+}
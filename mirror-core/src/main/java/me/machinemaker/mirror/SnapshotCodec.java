@@ -0,0 +1,126 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes primitive fields of objects to {@link ByteBuffer}s and reads
+ * them back, in a compact fixed layout.
+ *
+ * <p>Fields are laid out in the order they were added to the builder,
+ * with no padding, so every snapshot takes {@link #size()} bytes. Values
+ * are written with the buffer's {@linkplain ByteBuffer#order() byte order}
+ * and booleans take one byte. Reading and writing go straight between the
+ * fields and the buffer, without boxing or allocating.</p>
+ *
+ * @param <T> the type of object snapshotted
+ * @see Mirror#snapshotCodec(Class)
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * Get the number of bytes a snapshot takes.
+     *
+     * @return the snapshot size
+     */
+    int size();
+
+    /**
+     * Writes a snapshot of an object at an index, without changing the buffer's position.
+     *
+     * @param source the object to snapshot
+     * @param buffer the buffer to write to
+     * @param index the index to write at
+     * @throws IndexOutOfBoundsException if the snapshot doesn't fit at the index
+     */
+    void write(T source, ByteBuffer buffer, int index);
+
+    /**
+     * Reads a snapshot at an index into an object, without changing the buffer's position.
+     *
+     * @param buffer the buffer to read from
+     * @param index the index to read at
+     * @param target the object to restore the fields of
+     * @throws IndexOutOfBoundsException if there isn't a whole snapshot at the index
+     */
+    void read(ByteBuffer buffer, int index, T target);
+
+    /**
+     * Writes a snapshot of an object at the buffer's position, then advances it.
+     *
+     * @param source the object to snapshot
+     * @param buffer the buffer to write to
+     * @throws IndexOutOfBoundsException if the snapshot doesn't fit in the buffer
+     */
+    default void write(final T source, final ByteBuffer buffer) {
+        final int position = buffer.position();
+        this.write(source, buffer, position);
+        buffer.position(position + this.size());
+    }
+
+    /**
+     * Reads a snapshot at the buffer's position into an object, then advances it.
+     *
+     * @param buffer the buffer to read from
+     * @param target the object to restore the fields of
+     * @throws IndexOutOfBoundsException if there isn't a whole snapshot in the buffer
+     */
+    default void read(final ByteBuffer buffer, final T target) {
+        final int position = buffer.position();
+        this.read(buffer, position, target);
+        buffer.position(position + this.size());
+    }
+
+    /**
+     * A builder for a {@link SnapshotCodec}.
+     *
+     * @param <T> the type of object snapshotted
+     */
+    sealed interface Builder<T> permits SnapshotCodecBuilder {
+
+        /**
+         * Adds a field to the snapshot.
+         *
+         * @param field a primitive instance field of the type or a superclass
+         * @return this
+         * @throws IllegalArgumentException if the field isn't a primitive instance field of the type
+         */
+        Builder<T> field(Field field);
+
+        /**
+         * Adds the field a fuzzy field finder matches to the snapshot.
+         *
+         * @param finder a finder for a primitive instance field of the type or a superclass
+         * @return this
+         * @throws IllegalArgumentException if no field matches, or it isn't a primitive instance field of the type
+         */
+        Builder<T> field(FuzzyFieldFinder finder);
+
+        /**
+         * Builds the codec.
+         *
+         * @return the codec
+         * @throws IllegalArgumentException if no fields were added or any field can't be accessed
+         */
+        SnapshotCodec<T> build();
+    }
+}
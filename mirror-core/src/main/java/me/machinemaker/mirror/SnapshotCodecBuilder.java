@@ -0,0 +1,169 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds {@link SnapshotCodec}s. Every field gets a writer handle that
+ * reads it and puts it in the buffer with an absolute put, and a reader
+ * handle doing the reverse, at a fixed offset from the snapshot's index.
+ * All writers and all readers are combined into one handle each, held as
+ * constants by a generated class.
+ *
+ * @param <T> the type of object snapshotted
+ */
+final class SnapshotCodecBuilder<T> implements SnapshotCodec.Builder<T> {
+
+    private static final Map<Class<?>, Access> ACCESS;
+    private static final MethodHandle ADD;
+    private static final MethodHandle BOOLEAN_TO_BYTE;
+    private static final MethodHandle BYTE_TO_BOOLEAN;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            ACCESS = Map.of(
+                    byte.class, Access.find(byte.class, "", Byte.BYTES),
+                    short.class, Access.find(short.class, "Short", Short.BYTES),
+                    char.class, Access.find(char.class, "Char", Character.BYTES),
+                    int.class, Access.find(int.class, "Int", Integer.BYTES),
+                    long.class, Access.find(long.class, "Long", Long.BYTES),
+                    float.class, Access.find(float.class, "Float", Float.BYTES),
+                    double.class, Access.find(double.class, "Double", Double.BYTES)
+            );
+            ADD = lookup.findStatic(Integer.class, "sum", MethodType.methodType(int.class, int.class, int.class));
+            BOOLEAN_TO_BYTE = lookup.findStatic(SnapshotCodecBuilder.class, "toByte", MethodType.methodType(byte.class, boolean.class));
+            BYTE_TO_BOOLEAN = lookup.findStatic(SnapshotCodecBuilder.class, "toBoolean", MethodType.methodType(boolean.class, byte.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<T> type;
+    private final List<Field> fields = new ArrayList<>();
+
+    SnapshotCodecBuilder(final Class<T> type) {
+        this.type = type;
+    }
+
+    @SuppressWarnings("unused") // called through BOOLEAN_TO_BYTE
+    private static byte toByte(final boolean value) {
+        return value ? (byte) 1 : (byte) 0;
+    }
+
+    @SuppressWarnings("unused") // called through BYTE_TO_BOOLEAN
+    private static boolean toBoolean(final byte value) {
+        return value != 0;
+    }
+
+    @Override
+    public SnapshotCodec.Builder<T> field(final Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || !field.getDeclaringClass().isAssignableFrom(this.type)) {
+            throw new IllegalArgumentException(field + " is not an instance field of " + this.type);
+        }
+        if (!field.getType().isPrimitive()) {
+            throw new IllegalArgumentException(field + " is not a primitive field, snapshots have a fixed size");
+        }
+        this.fields.add(field);
+        return this;
+    }
+
+    @Override
+    public SnapshotCodec.Builder<T> field(final FuzzyFieldFinder finder) {
+        if (finder instanceof final FuzzyFieldFinderImpl impl) {
+            return this.field(ResolutionCache.field(impl));
+        }
+        // implemented outside of mirror, the field is only reachable through a direct getter
+        return this.field(MethodHandles.reflectAs(Field.class, finder.find(FuzzyFieldFinder.Type.GETTER)));
+    }
+
+    @Override
+    public SnapshotCodec<T> build() {
+        if (this.fields.isEmpty()) {
+            throw new IllegalArgumentException("A snapshot needs at least one field");
+        }
+        final List<MethodHandle> writers = new ArrayList<>();
+        final List<MethodHandle> readers = new ArrayList<>();
+        int offset = 0;
+        for (final Field field : this.fields) {
+            final MethodHandle getter;
+            final MethodHandle setter;
+            try {
+                field.trySetAccessible();
+                getter = Mirror.LOOKUP.unreflectGetter(field).asType(MethodType.methodType(field.getType(), this.type));
+                setter = Mirror.LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, this.type, field.getType()));
+            } catch (final IllegalAccessException ex) {
+                throw new IllegalArgumentException("Could not access " + field + " to snapshot it", ex);
+            }
+            final boolean isBoolean = field.getType() == boolean.class;
+            final Access access = ACCESS.get(isBoolean ? byte.class : field.getType());
+            final MethodHandle index = MethodHandles.insertArguments(ADD, 1, offset);
+
+            // (T, ByteBuffer, int)void: buffer.putX(index + offset, source.field)
+            final MethodHandle value = isBoolean ? MethodHandles.filterReturnValue(getter, BOOLEAN_TO_BYTE) : getter;
+            final MethodHandle put = MethodHandles.filterArguments(access.put(), 1, index, value);
+            writers.add(MethodHandles.permuteArguments(put, MethodType.methodType(void.class, this.type, ByteBuffer.class, int.class), 1, 2, 0));
+
+            // (ByteBuffer, int, T)void: target.field = buffer.getX(index + offset)
+            final MethodHandle read = isBoolean ? MethodHandles.filterReturnValue(access.get(), BYTE_TO_BOOLEAN) : access.get();
+            final MethodHandle set = MethodHandles.collectArguments(setter, 1, MethodHandles.filterArguments(read, 1, index));
+            readers.add(MethodHandles.permuteArguments(set, MethodType.methodType(void.class, ByteBuffer.class, int.class, this.type), 2, 0, 1));
+
+            offset += access.size();
+        }
+        final MethodHandle writer = HandleSequences.sequence(writers);
+        final MethodHandle reader = HandleSequences.sequence(readers);
+        final MethodHandle size = MethodHandles.constant(int.class, offset);
+        @SuppressWarnings("unchecked")
+        final SnapshotCodec<T> codec = AccessorGenerator.generate(SnapshotCodec.class, method -> switch (method.getName()) {
+            case "size" -> size;
+            case "write" -> method.getParameterCount() == 3 ? writer : null;
+            case "read" -> method.getParameterCount() == 3 ? reader : null;
+            default -> null;
+        }, "SnapshotCodec[" + this.type.getName() + ", " + offset + " bytes]");
+        return codec;
+    }
+
+    /**
+     * Absolute put and get handles for a primitive type.
+     *
+     * @param put {@code (ByteBuffer, int, X)void}
+     * @param get {@code (ByteBuffer, int)X}
+     * @param size the number of bytes the type takes
+     */
+    private record Access(MethodHandle put, MethodHandle get, int size) {
+
+        private static Access find(final Class<?> type, final String name, final int size) throws ReflectiveOperationException {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final MethodHandle put = lookup.findVirtual(ByteBuffer.class, "put" + name, MethodType.methodType(ByteBuffer.class, int.class, type));
+            final MethodHandle get = lookup.findVirtual(ByteBuffer.class, "get" + name, MethodType.methodType(type, int.class));
+            return new Access(put.asType(put.type().changeReturnType(void.class)), get, size);
+        }
+    }
+}
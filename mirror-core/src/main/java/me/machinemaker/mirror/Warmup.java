@@ -0,0 +1,167 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Resolves the finders and lazy handles stored on a holder in the
+ * background, optionally calling field getters so their handles are
+ * linked and the classes they read are initialized before they're first
+ * needed. Each target runs on its own virtual thread, and a semaphore
+ * bounds how many run at once.
+ */
+final class Warmup {
+
+    private static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("mirror-warmup-", 0).factory());
+
+    private Warmup() {
+    }
+
+    static CompletableFuture<Resolution> warmup(final Object holder, final WarmupOptions options) {
+        final List<Target> targets = targets(holder);
+        final Semaphore permits = new Semaphore(options.parallelism());
+        final List<CompletableFuture<@Nullable Throwable>> futures = new ArrayList<>(targets.size());
+        for (final Target target : targets) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    permits.acquire();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return ex;
+                }
+                try {
+                    target.warmup(options);
+                    return null;
+                } catch (final Throwable ex) {
+                    // anything, even an error, only fails this target
+                    return ex;
+                } finally {
+                    permits.release();
+                }
+            }, EXECUTOR));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            final List<FuzzyFinder> resolved = new ArrayList<>();
+            final List<Resolution.Failure> failures = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                final @Nullable Throwable failure = futures.get(i).join();
+                if (failure == null) {
+                    resolved.add(targets.get(i).finder());
+                } else {
+                    failures.add(new Resolution.Failure(targets.get(i).finder(), failure));
+                }
+            }
+            return new Resolution(resolved, failures);
+        });
+    }
+
+    private static List<Target> targets(final Object holder) {
+        final boolean isClass = holder instanceof Class<?>;
+        final Class<?> type = isClass ? (Class<?>) holder : holder.getClass();
+        final List<Target> targets = new ArrayList<>();
+        for (final Field field : type.getDeclaredFields()) {
+            final boolean isStatic = Modifier.isStatic(field.getModifiers());
+            if (field.isSynthetic() || isClass && !isStatic || !field.trySetAccessible()) {
+                continue;
+            }
+            final @Nullable Object value;
+            try {
+                value = field.get(isStatic ? null : holder);
+            } catch (final IllegalAccessException ex) {
+                continue;
+            }
+            if (value instanceof final FuzzyFinder finder) {
+                targets.add(new Target(finder, null));
+            } else if (value instanceof final MethodHandle handle) {
+                final LazyHandles.@Nullable Linker linker = LazyHandles.linker(handle);
+                if (linker != null) {
+                    targets.add(new Target(linker.finder(), linker));
+                }
+            }
+        }
+        return targets;
+    }
+
+    private record Target(FuzzyFinder finder, LazyHandles.@Nullable Linker linker) {
+
+        private void warmup(final WarmupOptions options) {
+            final MethodHandle handle;
+            final boolean getter;
+            if (this.linker != null) {
+                handle = this.linker.target();
+                getter = this.linker.getter();
+            } else if (this.finder instanceof final FuzzyMethodFinderImpl method) {
+                handle = ResolutionCache.methodHandle(method);
+                getter = false;
+            } else if (this.finder instanceof final FuzzyConstructorFinderImpl constructor) {
+                handle = ResolutionCache.constructorHandle(constructor);
+                getter = false;
+            } else if (this.finder instanceof final FuzzyFieldFinderImpl field) {
+                handle = ResolutionCache.fieldHandle(field, FuzzyFieldFinder.Type.GETTER);
+                getter = true;
+            } else {
+                handle = ((FuzzyFieldFinder) this.finder).find(FuzzyFieldFinder.Type.GETTER);
+                getter = true;
+            }
+            if (getter && options.invocations() > 0) {
+                this.invoke(handle, options);
+            }
+        }
+
+        private void invoke(final MethodHandle getter, final WarmupOptions options) {
+            final boolean isStatic = this.finder instanceof final FuzzyFieldFinderImpl field && Modifier.isStatic(ResolutionCache.field(field).getModifiers());
+            final @Nullable Object sample = options.sample();
+            final @Nullable Object receiver;
+            if (getter.type().parameterCount() == 0 || isStatic) {
+                // lazy getters of static fields take an instance they ignore
+                receiver = null;
+            } else if (sample != null && getter.type().parameterType(0).isInstance(sample) && this.finder.owner().isInstance(sample)) {
+                receiver = sample;
+            } else {
+                return;
+            }
+            // erased and called exactly, so the handle's own code is what gets hot
+            final MethodHandle erased = getter.type().parameterCount() == 0
+                    ? MethodHandles.dropArguments(getter, 0, Object.class).asType(MethodType.genericMethodType(1))
+                    : getter.asType(MethodType.genericMethodType(1));
+            try {
+                for (int i = 0; i < options.invocations(); i++) {
+                    final Object ignored = (Object) erased.invokeExact(receiver);
+                }
+            } catch (final RuntimeException ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new IllegalStateException("Could not call " + this.finder + " while warming up", ex);
+            }
+        }
+    }
+}
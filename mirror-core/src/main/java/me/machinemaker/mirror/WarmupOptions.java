@@ -0,0 +1,92 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Options for {@link Mirror#warmup(Object, WarmupOptions)}.
+ *
+ * @param parallelism how many members may be resolved at the same time
+ * @param invocations how many times to call each resolved field getter
+ * @param sample the instance to call instance field getters with, or null to only call static ones
+ */
+public record WarmupOptions(int parallelism, int invocations, @Nullable Object sample) {
+
+    /**
+     * Creates warmup options.
+     *
+     * @param parallelism how many members may be resolved at the same time
+     * @param invocations how many times to call each resolved field getter
+     * @param sample the instance to call instance field getters with
+     */
+    public WarmupOptions {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, was " + parallelism);
+        }
+        if (invocations < 0) {
+            throw new IllegalArgumentException("invocations can't be negative, was " + invocations);
+        }
+    }
+
+    /**
+     * Gets the default options, which resolve with one thread per
+     * processor and don't call anything.
+     *
+     * @return the default options
+     */
+    public static WarmupOptions defaults() {
+        return new WarmupOptions(Runtime.getRuntime().availableProcessors(), 0, null);
+    }
+
+    /**
+     * Copies these options with a different parallelism.
+     *
+     * @param parallelism how many members may be resolved at the same time
+     * @return the new options
+     */
+    public WarmupOptions parallelism(final int parallelism) {
+        return new WarmupOptions(parallelism, this.invocations, this.sample);
+    }
+
+    /**
+     * Copies these options with a different number of invocations. Only
+     * field getters are called, since they have no side effects. Calling
+     * them initializes what they read, links their handles and, called
+     * often enough, compiles the handles, but not the call sites that use
+     * them later. Getters of static fields are called without the sample.
+     *
+     * @param invocations how many times to call each resolved field getter
+     * @return the new options
+     */
+    public WarmupOptions invocations(final int invocations) {
+        return new WarmupOptions(this.parallelism, invocations, this.sample);
+    }
+
+    /**
+     * Copies these options with a different sample instance.
+     *
+     * @param sample the instance to call instance field getters with
+     * @return the new options
+     */
+    public WarmupOptions sample(final @Nullable Object sample) {
+        return new WarmupOptions(this.parallelism, this.invocations, sample);
+    }
+}
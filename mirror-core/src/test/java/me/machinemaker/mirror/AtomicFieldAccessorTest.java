@@ -0,0 +1,92 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AtomicFieldAccessorTest {
+
+    @Test
+    void testIntField() throws InterruptedException {
+        final AtomicFieldAccessor counter = Mirror.fuzzyField(ExampleClass.class, int.class).findAtomic();
+        final ExampleClass example = new ExampleClass();
+        assertTrue(counter.compareAndSetInt(example, 0, 5));
+        assertFalse(counter.compareAndSetInt(example, 0, 6));
+        assertEquals(5, counter.getAndAddInt(example, 2));
+        assertEquals(7, counter.getIntAcquire(example));
+        assertEquals(7, counter.getAndUpdateInt(example, value -> value * 2));
+        counter.setIntRelease(example, 0);
+
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    counter.getAndAddInt(example, 1);
+                }
+            }));
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, counter.getIntVolatile(example));
+        assertEquals(40_000, (int) counter.getVolatile(example));
+    }
+
+    @Test
+    void testLongAndBooleanFields() {
+        final AtomicFieldAccessor total = Mirror.fuzzyField(ExampleClass.class, long.class).findAtomic();
+        assertEquals(0L, total.getAndAddLong(null, 10L));
+        assertEquals(10L, total.getAndUpdateLong(null, value -> value + 1));
+        assertEquals(11L, total.getLongVolatile(null));
+
+        final AtomicFieldAccessor flag = Mirror.fuzzyField(ExampleClass.class, boolean.class).findAtomic();
+        final ExampleClass example = new ExampleClass();
+        assertTrue(flag.compareAndSetBoolean(example, false, true));
+        assertTrue(flag.getAndSetBoolean(example, false));
+        assertThrows(UnsupportedOperationException.class, () -> flag.getAndAdd(example, true));
+    }
+
+    @Test
+    void testReferenceField() {
+        final AtomicFieldAccessor name = Mirror.fuzzyField(ExampleClass.class, String.class).findAtomic();
+        final ExampleClass example = new ExampleClass();
+        assertTrue(name.compareAndSet(example, null, "first"));
+        assertEquals("first", name.getAndUpdate(example, value -> value + "!"));
+        assertEquals("first!", name.getAcquire(example));
+        assertEquals(ExampleClass.class, name.field().getDeclaringClass());
+        assertEquals(String.class, name.varHandle().varType());
+    }
+
+    static class ExampleClass {
+
+        private static long total;
+
+        private int counter;
+        private boolean flag;
+        private String name;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ConstantDynamic;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BootstrapTest {
+
+    private static final Handle PRIMITIVE_CLASS = new Handle(Opcodes.H_INVOKESTATIC, "java/lang/invoke/ConstantBootstraps", "primitiveClass",
+            "(Ljava/lang/invoke/MethodHandles$Lookup;Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Class;", false);
+
+    @Test
+    void testInvokedynamic() throws Throwable {
+        final ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V21, Opcodes.ACC_FINAL, "me/machinemaker/mirror/BootstrapTestCaller", null, "java/lang/Object", null);
+        final MethodVisitor method = writer.visitMethod(Opcodes.ACC_STATIC, "call", "(Ljava/lang/Object;I)Ljava/lang/String;", null, null);
+        method.visitCode();
+        method.visitVarInsn(Opcodes.ALOAD, 0);
+        method.visitVarInsn(Opcodes.ILOAD, 1);
+        final Handle bootstrap = new Handle(Opcodes.H_INVOKESTATIC, Type.getInternalName(Mirror.class), "bootstrapFuzzyMethod",
+                MethodType.methodType(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class, Class.class, Class[].class).toMethodDescriptorString(), false);
+        method.visitInvokeDynamicInsn("repeat", "(Ljava/lang/Object;I)Ljava/lang/String;", bootstrap,
+                Type.getType(ExampleClass.class), Type.getType(String.class), new ConstantDynamic("I", "Ljava/lang/Class;", PRIMITIVE_CLASS));
+        method.visitInsn(Opcodes.ARETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        writer.visitEnd();
+
+        final MethodHandles.Lookup caller = MethodHandles.lookup().defineHiddenClass(writer.toByteArray(), true);
+        final MethodHandle call = caller.findStatic(caller.lookupClass(), "call", MethodType.methodType(String.class, Object.class, int.class));
+        assertEquals("aaa", (String) call.invokeExact((Object) new ExampleClass(), 3));
+    }
+
+    @Test
+    void testBootstrapMethods() throws Throwable {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final ExampleClass example = new ExampleClass();
+
+        final CallSite repeat = Mirror.bootstrapFuzzyMethod(lookup, "repeat", MethodType.methodType(String.class, ExampleClass.class, int.class), ExampleClass.class);
+        assertEquals("aa", (String) repeat.dynamicInvoker().invokeExact(example, 2));
+
+        final CallSite seven = Mirror.bootstrapFuzzyStaticMethod(lookup, "seven", MethodType.methodType(long.class), ExampleClass.class);
+        assertEquals(7L, (long) seven.dynamicInvoker().invokeExact());
+
+        final CallSite setter = Mirror.bootstrapFuzzySetter(lookup, "value", MethodType.methodType(void.class, Object.class, int.class), ExampleClass.class);
+        setter.dynamicInvoker().invokeExact((Object) example, 9);
+        final CallSite getter = Mirror.bootstrapFuzzyGetter(lookup, "value", MethodType.methodType(Object.class, Object.class), ExampleClass.class, int.class);
+        assertEquals(9, (Object) getter.dynamicInvoker().invokeExact((Object) example));
+    }
+
+    static class ExampleClass {
+
+        private int value;
+
+        private static long seven() {
+            return 7L;
+        }
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BoundAccessorTest {
+
+    @Test
+    void testBoundFieldAccessor() throws ReflectiveOperationException {
+        final ExampleClass instance = new ExampleClass();
+        final Field count = ExampleClass.class.getDeclaredField("count");
+        final FieldAccessor.Bound bound = FieldAccessor.from(count).bindTo(instance);
+        assertEquals(1, bound.getInt());
+        bound.setInt(2);
+        assertEquals(2, instance.count);
+        bound.set(3);
+        assertEquals(3, bound.get());
+
+        final FieldAccessor.Bound name = FieldAccessor.compile(ExampleClass.class.getDeclaredField("name")).bindTo(instance);
+        assertEquals("name", name.require());
+        name.set("other");
+        assertEquals("other", instance.name);
+
+        final FieldAccessor.Bound shared = FieldAccessor.from(ExampleClass.class.getDeclaredField("shared")).bindTo(null);
+        assertEquals(4L, shared.getLong());
+
+        assertThrows(IllegalArgumentException.class, () -> FieldAccessor.from(count).bindTo(null));
+        assertThrows(IllegalArgumentException.class, () -> FieldAccessor.compile(count).bindTo("not an example"));
+    }
+
+    @Test
+    void testDelegatingBoundAccessor() throws ReflectiveOperationException {
+        final ExampleClass instance = new ExampleClass();
+        final FieldAccessor accessor = FieldAccessor.from(ExampleClass.class.getDeclaredField("count"));
+        final FieldAccessor delegating = new FieldAccessor() {
+            @Override
+            public void set(final Object target, final Object value) {
+                accessor.set(target, value);
+            }
+
+            @Override
+            public Object get(final Object target) {
+                return accessor.get(target);
+            }
+        };
+        final FieldAccessor.Bound bound = delegating.bindTo(instance);
+        bound.setInt(5);
+        assertEquals(5, bound.getInt());
+        assertEquals(5, instance.count);
+    }
+
+    @Test
+    void testBoundMethod() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+        final MethodHandle add = Mirror.fuzzyMethod(ExampleClass.class, int.class).params(int.class).names("add").findBound(instance);
+        assertEquals(MethodType.methodType(int.class, int.class), add.type());
+        assertEquals(3, (int) add.invokeExact(2));
+        assertEquals(3, instance.count);
+
+        final MethodHandle twice = Mirror.fuzzyMethod(ExampleClass.class, long.class).params(long.class).findBound(instance);
+        assertEquals(8L, (long) twice.invokeExact(4L));
+
+        assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyMethod(ExampleClass.class, int.class).params(int.class).names("add").findBound("not an example"));
+    }
+
+    static class ExampleClass {
+
+        private static long shared = 4L;
+        private int count = 1;
+        private String name = "name";
+
+        private int add(final int amount) {
+            this.count += amount;
+            return this.count;
+        }
+
+        private int subtract(final int amount) {
+            this.count -= amount;
+            return this.count;
+        }
+
+        private static long twice(final long value) {
+            return value * 2;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClassCacheTest {
+
+    @Test
+    void testClassLookups() {
+        assertSame(String.class, Mirror.getClass("java.lang.String"));
+        assertSame(String.class, Mirror.findClass("missing.Example", "java.lang.String"));
+        assertSame(String.class, Mirror.findClass("missing.Example", "java.lang.String"));
+        assertNull(Mirror.maybeGetClass("missing.Example"));
+        assertNull(Mirror.maybeFindClass("missing.Example", "missing.Other"));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.getClass("missing.Example"));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.findClass("missing.Example", "missing.Other"));
+    }
+
+    @Test
+    void testFailuresChained() {
+        final IllegalArgumentException first = assertThrows(IllegalArgumentException.class, () -> Mirror.getClass("missing.Chained"));
+        final IllegalArgumentException cached = assertThrows(IllegalArgumentException.class, () -> Mirror.getClass("missing.Chained"));
+        assertInstanceOf(ClassNotFoundException.class, first.getCause());
+        assertInstanceOf(ClassNotFoundException.class, cached.getCause());
+        assertEquals(first.getCause().getMessage(), cached.getCause().getMessage());
+    }
+
+    @Test
+    void testLoaderAware() {
+        final ClassLoader loader = new ClassLoader(null) {
+        };
+        assertNull(ClassCache.find(loader, ClassCacheTest.class.getName()));
+        assertSame(ClassCacheTest.class, ClassCache.find(ClassCacheTest.class.getClassLoader(), ClassCacheTest.class.getName()));
+        assertNull(ClassCache.find(loader, ClassCacheTest.class.getName()));
+
+        Mirror.clearClassCache();
+        assertSame(String.class, ClassCache.find(loader, "java.lang.String"));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledFieldAccessorTest {
+
+    @Test
+    void testCompiledAccessor() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final FieldAccessor accessor = FieldAccessor.compile(ExampleClass.class.getDeclaredField("name"));
+        assertEquals("TEST", accessor.get(instance));
+        accessor.set(instance, "OTHER");
+        assertEquals("OTHER", instance.name);
+        assertTrue(accessor.toString().contains("name"));
+
+        assertThrows(IllegalArgumentException.class, () -> accessor.get(null));
+    }
+
+    @Test
+    void testCompiledStaticAccessor() throws Throwable {
+        final FieldAccessor accessor = FieldAccessor.compile(ExampleClass.class.getDeclaredField("counter"));
+        accessor.set(null, 5);
+        assertEquals(5, accessor.get(null));
+    }
+
+    @Test
+    void testCompiledTypedAccessor() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final FieldAccessor.Typed<String> accessor = FieldAccessor.compile(ExampleClass.class.getDeclaredField("value"), String.class);
+        assertEquals("VALUE", accessor.get(instance));
+        accessor.set(instance, List.of());
+        assertThrows(IllegalStateException.class, () -> accessor.get(instance));
+    }
+
+    @Test
+    void testCompiledUserAccessor() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final HealthAccessor accessor = FieldAccessor.compileAs(ExampleClass.class.getDeclaredField("health"), HealthAccessor.class);
+        assertEquals(20.0F, accessor.health(instance));
+        accessor.health(instance, 1.5F);
+        assertEquals(1.5F, instance.health);
+        assertEquals(1.5D, accessor.healthAsDouble(instance));
+
+        assertThrows(IllegalArgumentException.class, () -> FieldAccessor.compileAs(ExampleClass.class.getDeclaredField("health"), InvalidAccessor.class));
+    }
+
+    public interface HealthAccessor {
+
+        float health(ExampleClass instance);
+
+        void health(Object instance, float health);
+
+        double healthAsDouble(Object instance);
+    }
+
+    public interface InvalidAccessor {
+
+        void health(Object instance, float health, int extra);
+    }
+
+    static class ExampleClass {
+
+        private static int counter;
+
+        private String name = "TEST";
+        private Object value = "VALUE";
+        private float health = 20.0F;
+    }
+}
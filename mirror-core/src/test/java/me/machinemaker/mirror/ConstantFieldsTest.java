@@ -0,0 +1,128 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConstantFieldsTest {
+
+    private static final AtomicInteger READS = new AtomicInteger();
+    private static final MethodHandle READ;
+    private static @Nullable MethodHandle initializingGetter;
+
+    static {
+        try {
+            READ = MethodHandles.lookup().findStatic(ConstantFieldsTest.class, "read", MethodType.methodType(String.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Test
+    void testFoldsAfterFirstRead() throws Throwable {
+        final Field field = ExampleClass.class.getDeclaredField("NAME");
+        READS.set(0);
+        final MethodHandle getter = ConstantFields.getter(field, READ);
+        assertEquals(READ.type(), getter.type());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("read", (String) getter.invokeExact());
+        }
+        assertEquals(1, READS.get());
+    }
+
+    @Test
+    void testNullIsNotFolded() throws Throwable {
+        final Field field = ExampleClass.class.getDeclaredField("NAME");
+        READS.set(-2);
+        final MethodHandle getter = ConstantFields.getter(field, READ);
+        assertNull((String) getter.invokeExact());
+        assertNull((String) getter.invokeExact());
+        assertEquals("read", (String) getter.invokeExact());
+        assertEquals("read", (String) getter.invokeExact());
+        assertEquals(1, READS.get());
+    }
+
+    @Test
+    void testDefaultIsNotFoldedDuringInitialization() throws Throwable {
+        final Field field = Initializing.class.getDeclaredField("VALUE");
+        final MethodHandle getter = ConstantFields.getter(field, MethodHandles.lookup().unreflectGetter(field));
+        initializingGetter = getter;
+        assertEquals(0, Initializing.seen);
+        assertEquals(7, (int) getter.invokeExact());
+        assertEquals(7, (int) getter.invokeExact());
+    }
+
+    @Test
+    void testOnlyStaticFinalFields() throws NoSuchFieldException {
+        assertSame(READ, ConstantFields.getter(ExampleClass.class.getDeclaredField("counter"), READ));
+    }
+
+    @Test
+    void testAccessors() throws Throwable {
+        final FieldAccessor accessor = FieldAccessor.from(ExampleClass.class.getDeclaredField("NAME"));
+        assertEquals("constant", accessor.get(null));
+        assertThrows(RuntimeException.class, () -> accessor.set(null, "other"));
+
+        final FieldAccessor compiled = FieldAccessor.compile(ExampleClass.class.getDeclaredField("COUNT"));
+        assertEquals(5, compiled.getInt(null));
+        assertThrows(UnsupportedOperationException.class, () -> compiled.setInt(null, 6));
+
+        final MethodHandle getter = Mirror.fuzzyField(ExampleClass.class, int.class).names("COUNT").find(FuzzyFieldFinder.Type.GETTER);
+        assertEquals(5, (int) getter.invokeExact());
+        assertEquals(5, (int) getter.invokeExact());
+    }
+
+    private static @Nullable String read() {
+        return READS.incrementAndGet() > 0 ? "read" : null;
+    }
+
+    static class ExampleClass {
+
+        private static final String NAME = "constant";
+        private static final int COUNT = 5;
+        private int counter;
+    }
+
+    static class Initializing {
+
+        private static final int VALUE;
+        private static int seen;
+
+        static {
+            try {
+                seen = (int) initializingGetter.invokeExact();
+            } catch (final Throwable e) {
+                throw new ExceptionInInitializerError(e);
+            }
+            VALUE = 7;
+        }
+    }
+}
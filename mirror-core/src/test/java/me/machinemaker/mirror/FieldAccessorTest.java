@@ -0,0 +1,75 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldAccessorTest {
+
+    @Test
+    void testPrimitiveAccess() throws Throwable {
+        testPrimitiveAccess(FieldAccessor.from(ExampleClass.class.getDeclaredField("ticks")), FieldAccessor.from(ExampleClass.class.getDeclaredField("health")));
+        testPrimitiveAccess(FieldAccessor.compile(ExampleClass.class.getDeclaredField("ticks")), FieldAccessor.compile(ExampleClass.class.getDeclaredField("health")));
+    }
+
+    private static void testPrimitiveAccess(final FieldAccessor ticks, final FieldAccessor health) {
+        final ExampleClass instance = new ExampleClass();
+
+        assertEquals(10, ticks.getInt(instance));
+        ticks.setInt(instance, 11);
+        assertEquals(11, instance.ticks);
+        assertEquals(11, ticks.get(instance));
+
+        assertEquals(20.0D, health.getDouble(instance));
+        health.setDouble(instance, 1.0D);
+        assertEquals(1.0D, instance.health);
+
+        assertThrows(ClassCastException.class, () -> ticks.getLong(instance));
+    }
+
+    @Test
+    void testBoxedFieldPrimitiveAccess() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final FieldAccessor accessor = FieldAccessor.from(ExampleClass.class.getDeclaredField("boxed"));
+        assertEquals(5L, accessor.getLong(instance));
+        accessor.setLong(instance, 6L);
+        assertEquals(6L, (long) instance.boxed);
+    }
+
+    @Test
+    void testStaticPrimitiveAccess() throws Throwable {
+        final FieldAccessor accessor = FieldAccessor.from(ExampleClass.class.getDeclaredField("enabled"));
+        accessor.setBoolean(null, true);
+        assertEquals(true, accessor.getBoolean(null));
+    }
+
+    static class ExampleClass {
+
+        private static boolean enabled;
+
+        private int ticks = 10;
+        private double health = 20.0D;
+        private Long boxed = 5L;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldCopierTest {
+
+    @Test
+    void testCopyHierarchy() {
+        final FieldCopier<ExampleClass> copier = Mirror.copier(ExampleClass.class).build();
+        final ExampleClass source = new ExampleClass(7);
+        source.health = 12.5F;
+        source.name = "source";
+        source.tags.add("tag");
+        source.id = 99L;
+        final ExampleClass target = new ExampleClass(0);
+
+        copier.copy(source, target);
+        assertEquals(7, target.count);
+        assertEquals(12.5F, target.health);
+        assertEquals("source", target.name);
+        assertSame(source.tags, target.tags);
+        assertEquals(99L, target.id);
+    }
+
+    @Test
+    void testFiltersAndHooks() {
+        final FieldCopier<ExampleClass> copier = Mirror.copier(ExampleClass.class)
+                .filter(field -> !field.getName().equals("name"))
+                .<List<?>>deepCopy(List.class, ArrayList::new)
+                .deepCopy(int[].class, int[]::clone)
+                .build();
+        final ExampleClass source = new ExampleClass(3);
+        source.name = "source";
+        source.tags.add("tag");
+        source.values = new int[]{1, 2};
+        final ExampleClass target = new ExampleClass(0);
+
+        copier.copy(source, target);
+        assertNull(target.name);
+        assertEquals(List.of("tag"), target.tags);
+        assertNotSame(source.tags, target.tags);
+        assertEquals(2, target.values.length);
+        assertEquals(2, target.values[1]);
+        assertNotSame(source.values, target.values);
+    }
+
+    @Test
+    void testHooksSkipNull() {
+        final FieldCopier<ExampleClass> copier = Mirror.copier(ExampleClass.class).<List<?>>deepCopy(List.class, ArrayList::new).build();
+        final ExampleClass source = new ExampleClass(3);
+        source.tags = null;
+        final ExampleClass target = new ExampleClass(0);
+
+        copier.copy(source, target);
+        assertNull(target.tags);
+        assertEquals(3, target.count);
+    }
+
+    @Test
+    void testStopsAtJdkSuperclasses() {
+        final FieldCopier<ExampleList> copier = Mirror.copier(ExampleList.class).build();
+        final ExampleList source = new ExampleList();
+        source.size = 2;
+        final ExampleList target = new ExampleList();
+
+        copier.copy(source, target);
+        assertEquals(2, target.size());
+    }
+
+    @Test
+    void testInvalidHook() {
+        assertThrows(IllegalArgumentException.class, () -> Mirror.copier(ExampleClass.class).deepCopy(int.class, value -> value));
+    }
+
+    static class ExampleList extends AbstractList<String> {
+
+        private int size;
+
+        @Override
+        public String get(final int index) {
+            return "list";
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+
+    static class Base {
+
+        long id;
+    }
+
+    static class ExampleClass extends Base {
+
+        static final String SHARED = "shared";
+
+        private final int count;
+        private float health;
+        private String name;
+        private List<String> tags = new ArrayList<>();
+        private int[] values;
+
+        ExampleClass(final int count) {
+            this.count = count;
+        }
+    }
+}
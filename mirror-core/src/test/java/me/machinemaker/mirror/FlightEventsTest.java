@@ -0,0 +1,107 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlightEventsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testResolutionAndClassLookupEvents() throws Throwable {
+        final List<RecordedEvent> events = this.record(() -> {
+            Mirror.fuzzyField(Target.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.maybeGetClass("missing.FlightEventsExample");
+            Mirror.maybeGetClass("missing.FlightEventsExample");
+        });
+
+        final RecordedEvent resolution = single(events, "me.machinemaker.mirror.MemberResolution");
+        assertEquals(Target.class.getName(), resolution.getClass("owner").getName());
+        assertTrue(resolution.getBoolean("found"));
+        assertEquals(Target.class.getDeclaredField("name").toString(), resolution.getString("member"));
+
+        final RecordedEvent lookup = single(events, "me.machinemaker.mirror.ClassLookup");
+        assertEquals("missing.FlightEventsExample", lookup.getString("className"));
+        assertFalse(lookup.getBoolean("found"));
+    }
+
+    @Test
+    void testSampledAccessor() throws Throwable {
+        final Field field = Target.class.getDeclaredField("count");
+        final MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+        assertSame(getter, FlightEvents.sampled(getter, field, "get"));
+
+        final MethodHandle sampled = FlightEvents.sampled(getter, field, "get", 1);
+        assertEquals(getter.type(), sampled.type());
+        final Target target = new Target();
+        target.count = 7;
+        final List<RecordedEvent> events = this.record(() -> assertEquals(7, (int) sampled.invokeExact(target)));
+
+        final RecordedEvent invocation = single(events, "me.machinemaker.mirror.AccessorInvocation");
+        assertEquals("count", invocation.getString("field"));
+        assertEquals("get", invocation.getString("operation"));
+    }
+
+    private List<RecordedEvent> record(final Action action) throws Throwable {
+        final Path file = this.dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("me.machinemaker.mirror.MemberResolution");
+            recording.enable("me.machinemaker.mirror.ClassLookup");
+            recording.enable("me.machinemaker.mirror.AccessorInvocation");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matching = events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+        assertEquals(1, matching.size());
+        return matching.get(0);
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void run() throws Throwable;
+    }
+
+    static final class Target {
+        private String name = "";
+        private int count;
+    }
+}
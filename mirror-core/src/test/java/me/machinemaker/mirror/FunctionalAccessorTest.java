@@ -0,0 +1,98 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FunctionalAccessorTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMethodAsLambda() {
+        final ExampleClass instance = new ExampleClass();
+
+        final Function<ExampleClass, String> name = Mirror.fuzzyMethod(ExampleClass.class, String.class)
+                .findAs(Function.class);
+        assertEquals("example", name.apply(instance));
+        assertTrue(name.getClass().getName().contains("$$Lambda"), "not spun by the metafactory");
+
+        final IntSupplier next = Mirror.fuzzyMethod(ExampleClass.class, int.class)
+                .findAs(IntSupplier.class);
+        assertEquals(1, next.getAsInt());
+
+        final Adder adder = Mirror.fuzzyMethod(ExampleClass.class, long.class)
+                .params(int.class)
+                .findAs(Adder.class);
+        assertEquals(5L, adder.add(instance, 5));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFieldAsFunction() {
+        final ExampleClass instance = new ExampleClass();
+
+        final FuzzyFieldFinder finder = Mirror.fuzzyField(ExampleClass.class, int.class).names("value");
+        final ToIntFunction<Object> getter = finder.findAs(FuzzyFieldFinder.Type.GETTER, ToIntFunction.class);
+        final ObjIntConsumer<Object> setter = finder.findAs(FuzzyFieldFinder.Type.SETTER, ObjIntConsumer.class);
+        setter.accept(instance, 3);
+        assertEquals(3, getter.applyAsInt(instance));
+    }
+
+    @Test
+    void testNotFunctional() {
+        assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyMethod(ExampleClass.class, String.class).findAs(Runnable.class));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyMethod(ExampleClass.class, String.class).findAs(ExampleClass.class));
+    }
+
+    @FunctionalInterface
+    interface Adder {
+
+        long add(ExampleClass instance, int amount);
+    }
+
+    static class ExampleClass {
+
+        private static int counter;
+
+        private int value;
+        private long total;
+
+        private static int next() {
+            return ++counter;
+        }
+
+        private long add(final int amount) {
+            this.total += amount;
+            return this.total;
+        }
+
+        private String name() {
+            return "example";
+        }
+    }
+}
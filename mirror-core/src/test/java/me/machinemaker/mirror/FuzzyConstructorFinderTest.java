@@ -0,0 +1,99 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FuzzyConstructorFinderTest {
+
+    @Test
+    void testFind() throws Throwable {
+        final MethodHandle noArgs = Mirror.fuzzyConstructor(ExampleClass.class).find();
+        assertEquals("default", ((ExampleClass) noArgs.invoke()).name);
+
+        final MethodHandle exact = Mirror.fuzzyConstructor(ExampleClass.class).params(String.class).findExact(MethodType.methodType(Object.class, String.class));
+        assertEquals("exact", ((ExampleClass) (Object) exact.invokeExact("exact")).name);
+
+        final MethodHandle assignable = Mirror.fuzzyConstructor(ExampleClass.class).params(StringBuilder.class).find();
+        assertEquals("sequence", ((ExampleClass) assignable.invoke(new StringBuilder("sequence"))).name);
+    }
+
+    @Test
+    void testFindAs() {
+        final Supplier<?> supplier = Mirror.fuzzyConstructor(ExampleClass.class).findAs(Supplier.class);
+        assertEquals("default", ((ExampleClass) supplier.get()).name);
+
+        @SuppressWarnings("unchecked")
+        final Function<String, ?> function = Mirror.fuzzyConstructor(ExampleClass.class).params(String.class).findAs(Function.class);
+        assertEquals("function", ((ExampleClass) function.apply("function")).name);
+
+        final Factory factory = Mirror.fuzzyConstructor(ExampleClass.class).params(String.class, int.class).findAs(Factory.class);
+        assertEquals("abab", ((ExampleClass) factory.create("ab", 2)).name);
+    }
+
+    @Test
+    void testFailures() {
+        assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyConstructor(ExampleClass.class).params(long.class).find());
+        assertThrows(AmbiguousFuzzyException.class, () -> Mirror.fuzzyConstructor(Ambiguous.class).params(Integer.class).find());
+        assertThrows(IllegalStateException.class, () -> Mirror.fuzzyConstructor(ExampleClass.class).params(String.class).params(int.class));
+    }
+
+    @FunctionalInterface
+    interface Factory {
+        Object create(String name, int times);
+    }
+
+    static class ExampleClass {
+
+        private final String name;
+
+        private ExampleClass() {
+            this("default");
+        }
+
+        private ExampleClass(final String name) {
+            this.name = name;
+        }
+
+        private ExampleClass(final CharSequence name) {
+            this("sequence".contentEquals(name) ? "sequence" : "unexpected");
+        }
+
+        private ExampleClass(final String name, final int times) {
+            this(name.repeat(times));
+        }
+    }
+
+    static class Ambiguous {
+
+        Ambiguous(final Number number) {
+        }
+
+        Ambiguous(final Comparable<?> comparable) {
+        }
+    }
+}
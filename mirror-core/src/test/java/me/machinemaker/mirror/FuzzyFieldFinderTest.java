@@ -21,10 +21,12 @@ package me.machinemaker.mirror;
 
 import io.leangen.geantyref.TypeToken;
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FuzzyFieldFinderTest {
 
@@ -55,6 +57,40 @@ class FuzzyFieldFinderTest {
         assertEquals(List.of('c', 'd'), instance.charList);
     }
 
+    @Test
+    void testExactFuzzyField() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final FuzzyFieldFinder fuzzyFieldFinder = Mirror.fuzzyField(ExampleClass.class, String.class);
+        final MethodHandle getter = fuzzyFieldFinder.findExact(FuzzyFieldFinder.Type.GETTER, MethodType.methodType(CharSequence.class, Object.class));
+        assertEquals("TEST", (CharSequence) getter.invokeExact((Object) instance));
+
+        final MethodHandle erasedGetter = fuzzyFieldFinder.findErased(FuzzyFieldFinder.Type.GETTER);
+        final MethodHandle erasedSetter = fuzzyFieldFinder.findErased(FuzzyFieldFinder.Type.SETTER);
+        final Object ignored = (Object) erasedSetter.invokeExact((Object) instance, (Object) "OTHER_STRING");
+        assertEquals("OTHER_STRING", (Object) erasedGetter.invokeExact((Object) instance));
+    }
+
+    @Test
+    void testInheritedFuzzyField() throws Throwable {
+        final Grandchild instance = new Grandchild();
+
+        assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyField(Grandchild.class, long.class).find(FuzzyFieldFinder.Type.GETTER));
+        final MethodHandle getter = Mirror.fuzzyField(Grandchild.class, long.class).inherited().find(FuzzyFieldFinder.Type.GETTER);
+        final MethodHandle setter = Mirror.fuzzyField(Grandchild.class, long.class).inherited().find(FuzzyFieldFinder.Type.SETTER);
+        assertEquals(3L, (long) getter.invoke(instance));
+        setter.invoke(instance, 4L);
+        assertEquals(4L, ((Base) instance).id);
+
+        final MethodHandle nearest = Mirror.fuzzyField(Grandchild.class, String.class).inherited().names("name").find(FuzzyFieldFinder.Type.GETTER);
+        assertEquals("child", nearest.invoke(instance));
+        assertThrows(AmbiguousFuzzyException.class, () -> Mirror.fuzzyField(Grandchild.class, String.class).inherited().find(FuzzyFieldFinder.Type.GETTER));
+
+        final FuzzyFieldFinder finder = Mirror.fuzzyField(Grandchild.class, long.class);
+        finder.inherited();
+        assertEquals(3L, (long) finder.find(FuzzyFieldFinder.Type.GETTER).invoke(new Grandchild()));
+    }
+
     static class ExampleClass {
 
         @SuppressWarnings("FieldMayBeFinal")
@@ -62,4 +98,16 @@ class FuzzyFieldFinderTest {
         @SuppressWarnings("FieldMayBeFinal")
         private String field = "TEST";
     }
+
+    static class Base {
+        private long id = 3L;
+        private String name = "base";
+    }
+
+    static class Child extends Base {
+        private String name = "child";
+    }
+
+    static class Grandchild extends Child {
+    }
 }
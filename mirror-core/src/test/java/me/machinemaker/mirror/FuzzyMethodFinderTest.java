@@ -20,8 +20,10 @@
 package me.machinemaker.mirror;
 
 import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class FuzzyMethodFinderTest {
@@ -50,6 +52,19 @@ class FuzzyMethodFinderTest {
                 .find();
     }
 
+    @Test
+    void testExactFuzzyMethod() throws Throwable {
+        final ExampleClass instance = new ExampleClass();
+
+        final MethodHandle exact = Mirror.fuzzyMethod(ExampleClass.class, String.class)
+                .findExact(MethodType.methodType(Object.class, Object.class));
+        assertEquals("", (Object) exact.invokeExact((Object) instance));
+
+        final MethodHandle erased = Mirror.fuzzyMethod(ExampleClass.class, Void.TYPE)
+                .params(String.class)
+                .findErased();
+        assertEquals(null, (Object) erased.invokeExact((Object) instance, (Object) "string"));
+    }
 
     static class ExampleClass {
 
@@ -0,0 +1,82 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LazyHandleTest {
+
+    @Test
+    void testLazyMethod() throws Throwable {
+        final FuzzyMethodFinder finder = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class);
+        final MethodHandle lazy = finder.lazy();
+        finder.names("ignored");
+        assertEquals(MethodType.methodType(String.class, Object.class, int.class), lazy.type());
+        assertEquals("aa", (String) lazy.invokeExact((Object) new ExampleClass(), 2));
+        assertEquals("aaa", (String) lazy.invokeExact((Object) new ExampleClass(), 3));
+
+        final MethodHandle staticMethod = Mirror.fuzzyMethod(ExampleClass.class, long.class).lazy();
+        assertEquals(7L, (long) staticMethod.invokeExact((Object) null));
+
+        final MethodHandle exact = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class)
+                .lazy(MethodType.methodType(String.class, ExampleClass.class, int.class));
+        assertEquals("a", (String) exact.invokeExact(new ExampleClass(), 1));
+    }
+
+    @Test
+    void testLazyField() throws Throwable {
+        final ExampleClass example = new ExampleClass();
+        final MethodHandle setter = Mirror.fuzzyField(ExampleClass.class, int.class).lazy(FuzzyFieldFinder.Type.SETTER);
+        final MethodHandle getter = Mirror.fuzzyField(ExampleClass.class, int.class).lazy(FuzzyFieldFinder.Type.GETTER);
+        setter.invokeExact((Object) example, 5);
+        assertEquals(5, (int) getter.invokeExact((Object) example));
+
+        final MethodHandle staticGetter = Mirror.fuzzyField(ExampleClass.class, String.class).lazy(FuzzyFieldFinder.Type.GETTER);
+        assertEquals("static", (String) staticGetter.invokeExact((Object) null));
+    }
+
+    @Test
+    void testResolvedOnFirstUse() {
+        final MethodHandle missing = Mirror.fuzzyMethod(ExampleClass.class, double.class).lazy();
+        assertThrows(IllegalArgumentException.class, () -> {
+            final double ignored = (double) missing.invokeExact((Object) new ExampleClass());
+        });
+    }
+
+    static class ExampleClass {
+
+        private static final String NAME = "static";
+
+        private int value;
+
+        private static long seven() {
+            return 7L;
+        }
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+    }
+}
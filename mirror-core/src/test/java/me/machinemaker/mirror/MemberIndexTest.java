@@ -0,0 +1,124 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.AbstractList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemberIndexTest {
+
+    @Test
+    void testFieldBuckets() {
+        final MemberIndex index = MemberIndex.of(ExampleClass.class);
+        assertEquals(List.of("first", "second"), index.fields(int.class).stream().map(Field::getName).toList());
+        assertEquals(1, index.fields(String.class).size());
+        assertTrue(index.fields(long.class).isEmpty());
+    }
+
+    @Test
+    void testMethodCandidates() {
+        final MemberIndex.MethodCandidates candidates = MemberIndex.of(ExampleClass.class).methods(CharSequence.class, List.of(int.class));
+        assertEquals(List.of("sequence"), candidates.match().stream().map(Method::getName).toList());
+        assertEquals(List.of("string"), candidates.almostMatch().stream().map(Method::getName).toList());
+        assertSame(candidates, MemberIndex.of(ExampleClass.class).methods(CharSequence.class, List.of(int.class)));
+        assertTrue(MemberIndex.of(ExampleClass.class).methods(Object.class, List.of()).match().isEmpty());
+    }
+
+    @Test
+    void testInheritedFields() {
+        final MemberIndex index = MemberIndex.of(ExampleSubclass.class);
+        assertEquals(List.of("third"), index.fields(int.class).stream().map(Field::getName).toList());
+        assertEquals(List.of("third", "first", "second"), index.inheritedFields(int.class).stream().map(Field::getName).toList());
+        assertSame(MemberIndex.of(ExampleClass.class).inheritedFields(String.class), index.inheritedFields(String.class));
+        assertSame(index.inheritedFields(int.class), MemberIndex.of(ExampleLeaf.class).inheritedFields(int.class));
+    }
+
+    @Test
+    void testInheritedPublicFieldsKeepTheirPlace() {
+        final MemberIndex index = MemberIndex.of(PublicLeaf.class);
+        assertEquals(List.of("leaf", "middle", "root"), index.inheritedFields(long.class).stream().map(Field::getName).toList());
+    }
+
+    @Test
+    void testInheritedFieldsStopAtBootstrapClasses() {
+        final MemberIndex index = MemberIndex.of(ExampleList.class);
+        assertEquals(List.of("size"), index.inheritedFields(int.class).stream().map(Field::getName).toList());
+    }
+
+    static class ExampleClass {
+
+        private int first;
+        private int second;
+        private String name;
+
+        private CharSequence sequence(final int length) {
+            return "a".repeat(length);
+        }
+
+        private String string(final int length) {
+            return "b".repeat(length);
+        }
+    }
+
+    static class ExampleSubclass extends ExampleClass {
+
+        private int third;
+    }
+
+    static class ExampleLeaf extends ExampleSubclass {
+    }
+
+    static class PublicRoot {
+
+        public long root;
+    }
+
+    static class PublicMiddle extends PublicRoot {
+
+        private long middle;
+    }
+
+    static class PublicLeaf extends PublicMiddle {
+
+        private long leaf;
+    }
+
+    static class ExampleList extends AbstractList<String> {
+
+        private int size;
+
+        @Override
+        public String get(final int index) {
+            return "list";
+        }
+
+        @Override
+        public int size() {
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.management.ObjectName;
+import me.machinemaker.mirror.testing.DefiningLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsTest {
+
+    @Test
+    void testEvents() throws ReflectiveOperationException {
+        final List<ResolutionEvent> events = new ArrayList<>();
+        final Consumer<ResolutionEvent> listener = event -> {
+            if (event.owner() == Target.class) {
+                events.add(event);
+            }
+        };
+        Mirror.addResolutionListener(listener);
+        try {
+            final MirrorMetrics before = Mirror.metrics();
+            Mirror.fuzzyField(Target.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyField(Target.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyField(Target.class, int.class).names("second").find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyMethod(Target.class, Object.class).find();
+            assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyField(Target.class, long.class).find(FuzzyFieldFinder.Type.GETTER));
+            Mirror.maybeGetClass("missing.MetricsExample");
+            final MirrorMetrics after = Mirror.metrics();
+
+            assertEquals(4, events.size());
+            assertEquals(ResolutionEvent.Path.UNIQUE, events.get(0).path());
+            assertEquals(Target.class.getDeclaredField("name"), events.get(0).member());
+            assertEquals(ResolutionEvent.Path.BY_NAME, events.get(1).path());
+            assertEquals(2, events.get(1).candidates());
+            assertEquals(ResolutionEvent.Path.ALMOST_MATCH, events.get(2).path());
+            assertEquals(ResolutionEvent.Path.FAILED, events.get(3).path());
+            assertNull(events.get(3).member());
+
+            assertTrue(after.resolutions() - before.resolutions() >= 4);
+            assertTrue(after.cacheHits() - before.cacheHits() >= 1);
+            assertTrue(after.failures() - before.failures() >= 1);
+            assertTrue(after.classNotFound() - before.classNotFound() >= 1);
+            assertTrue(after.resolutionNanos() > before.resolutionNanos());
+        } finally {
+            Mirror.removeResolutionListener(listener);
+            Mirror.disableMetrics();
+        }
+    }
+
+    @Test
+    void testLinkageErrorsReported() throws ClassNotFoundException {
+        final Class<?> broken = new DefiningLoader(ResolveAllTest.BrokenClass.class, ResolveAllTest.MissingClass.class).loadClass(ResolveAllTest.BrokenClass.class.getName());
+        final List<ResolutionEvent> events = new ArrayList<>();
+        final Consumer<ResolutionEvent> listener = event -> {
+            if (event.owner() == broken) {
+                events.add(event);
+            }
+        };
+        Mirror.addResolutionListener(listener);
+        try {
+            final MirrorMetrics before = Mirror.metrics();
+            assertThrows(NoClassDefFoundError.class, () -> Mirror.fuzzyField(broken, int.class).find(FuzzyFieldFinder.Type.GETTER));
+            assertEquals(1, Mirror.metrics().failures() - before.failures());
+            assertEquals(1, events.size());
+            assertEquals(ResolutionEvent.Path.FAILED, events.get(0).path());
+            assertInstanceOf(NoClassDefFoundError.class, events.get(0).failure());
+        } finally {
+            Mirror.removeResolutionListener(listener);
+        }
+    }
+
+    @Test
+    void testDisabled() {
+        Mirror.disableMetrics();
+        final MirrorMetrics before = Mirror.metrics();
+        Mirror.fuzzyField(Untracked.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+        assertEquals(before, Mirror.metrics());
+    }
+
+    @Test
+    void testListenersRestoreEnabled() {
+        final Consumer<ResolutionEvent> listener = event -> { };
+        Mirror.disableMetrics();
+        Mirror.addResolutionListener(listener);
+        assertTrue(Metrics.enabled());
+        Mirror.removeResolutionListener(listener);
+        assertFalse(Metrics.enabled());
+
+        Mirror.startResolutionReport().close();
+        assertFalse(Metrics.enabled());
+
+        Mirror.enableMetrics();
+        try {
+            Mirror.addResolutionListener(listener);
+            Mirror.removeResolutionListener(listener);
+            assertTrue(Metrics.enabled());
+        } finally {
+            Mirror.disableMetrics();
+        }
+    }
+
+    @Test
+    void testMBean() throws Exception {
+        final ObjectName name = Mirror.registerMetricsMBean("MetricsTest");
+        try {
+            final Object resolutions = ManagementFactory.getPlatformMBeanServer().getAttribute(name, "Resolutions");
+            assertEquals(Mirror.metrics().resolutions(), resolutions);
+            assertThrows(IllegalStateException.class, () -> Mirror.registerMetricsMBean("MetricsTest"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    static final class Target {
+        private String name = "";
+        private int first;
+        private int second;
+
+        private String value() {
+            return this.name;
+        }
+    }
+
+    static final class Untracked {
+        private String name = "";
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PersistentCacheTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testEntriesSurviveReload() throws Throwable {
+        final Path file = this.dir.resolve("resolutions");
+        final Method method = ExampleClass.class.getDeclaredMethod("repeat", int.class);
+        new PersistentCache(file).record(ExampleClass.class, "repeat", method);
+        new PersistentCache(file).record(ExampleClass.class, "value", ExampleClass.class.getDeclaredField("value"));
+
+        final PersistentCache reloaded = new PersistentCache(file);
+        final MethodHandle repeat = reloaded.find(ExampleClass.class, "repeat");
+        assertNotNull(repeat);
+        assertEquals("aaa", (String) repeat.invoke(new ExampleClass(), 3));
+        final MethodHandle value = reloaded.find(ExampleClass.class, "value");
+        assertNotNull(value);
+        assertEquals(4, (int) value.invoke(new ExampleClass()));
+        assertNull(reloaded.find(ExampleClass.class, "missing"));
+    }
+
+    @Test
+    void testStaleEntries() throws ReflectiveOperationException, IOException {
+        final Path file = this.dir.resolve("resolutions");
+        new PersistentCache(file).record(ExampleClass.class, "repeat", ExampleClass.class.getDeclaredMethod("repeat", int.class));
+        final String line = Files.readAllLines(file).get(0);
+
+        final String otherHash = line.replaceFirst("\t[0-9a-f]{64}\t", "\t" + "0".repeat(64) + "\t");
+        Files.write(file, List.of(otherHash));
+        assertNull(new PersistentCache(file).find(ExampleClass.class, "repeat"));
+
+        Files.write(file, List.of(line.replace("\trepeat\t(", "\tmissing\t(")));
+        assertNull(new PersistentCache(file).find(ExampleClass.class, "repeat"));
+    }
+
+    @Test
+    void testSupersededLinesAreCompacted() throws Throwable {
+        final Path file = this.dir.resolve("resolutions");
+        final Method repeat = ExampleClass.class.getDeclaredMethod("repeat", int.class);
+        new PersistentCache(file).record(ExampleClass.class, "repeat", repeat);
+        final String line = Files.readAllLines(file).get(0);
+        final String otherHash = line.replaceFirst("\t[0-9a-f]{64}\t", "\t" + "0".repeat(64) + "\t");
+        final String missing = line.replace("\trepeat\t(", "\tmissing\t(");
+        Files.write(file, List.of(otherHash, missing, line));
+
+        final PersistentCache reloaded = new PersistentCache(file);
+        assertEquals(List.of(line), Files.readAllLines(file));
+        final MethodHandle handle = reloaded.find(ExampleClass.class, "repeat");
+        assertNotNull(handle);
+        assertEquals("aa", (String) handle.invoke(new ExampleClass(), 2));
+    }
+
+    @Test
+    void testFingerprintCoversSuperclass() throws ReflectiveOperationException, IOException, NoSuchAlgorithmException {
+        final Path file = this.dir.resolve("resolutions");
+        new PersistentCache(file).record(ExampleSubclass.class, "repeat", ExampleClass.class.getDeclaredMethod("repeat", int.class));
+        final String fingerprint = Files.readAllLines(file).get(0).split("\t")[1];
+
+        try (InputStream in = ExampleSubclass.class.getResourceAsStream("/" + ExampleSubclass.class.getName().replace('.', '/') + ".class")) {
+            assertNotNull(in);
+            final String ownFile = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(in.readAllBytes()));
+            assertNotEquals(ownFile, fingerprint);
+        }
+    }
+
+    @Test
+    void testFinderUsesCache() throws IOException {
+        final Path file = this.dir.resolve("resolutions");
+        Mirror.enablePersistentCache(file);
+        try {
+            Mirror.fuzzyMethod(CachedClass.class, String.class).params(int.class).find();
+        } finally {
+            Mirror.disablePersistentCache();
+        }
+        final List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        final MethodHandle handle = new PersistentCache(file).find(CachedClass.class, "method (I)Ljava/lang/String; []");
+        assertNotNull(handle);
+    }
+
+    static class ExampleClass {
+
+        private int value = 4;
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+    }
+
+    static class ExampleSubclass extends ExampleClass {
+    }
+
+    static class CachedClass {
+
+        private String name(final int length) {
+            return "b".repeat(length);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import me.machinemaker.mirror.proxy.Getter;
+import me.machinemaker.mirror.proxy.Invoker;
+import me.machinemaker.mirror.proxy.Owner;
+import me.machinemaker.mirror.proxy.Setter;
+import me.machinemaker.mirror.proxy.TypeName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProxyTest {
+
+    @Test
+    void testProxy() {
+        final ExampleClass instance = new ExampleClass();
+        final ExampleProxy proxy = Mirror.proxy(ExampleProxy.class);
+
+        assertEquals(20.0F, proxy.health(instance));
+        proxy.health(instance, 5.0F);
+        assertEquals(5.0F, instance.health);
+
+        assertEquals(7.0F, proxy.heal(instance, 2.0F));
+        assertEquals("example", proxy.name(instance));
+        assertEquals(2, proxy.count());
+        assertEquals("other", proxy.other(instance).value);
+        assertEquals(7.0F, proxy.healthOrZero(instance));
+    }
+
+    @Test
+    void testUnwrappedException() {
+        final ExampleProxy proxy = Mirror.proxy(ExampleProxy.class);
+        assertThrows(UnsupportedOperationException.class, () -> proxy.fail(new ExampleClass()));
+    }
+
+    @Test
+    void testInvalidProxy() {
+        assertThrows(IllegalArgumentException.class, () -> Mirror.proxy(InvalidProxy.class));
+    }
+
+    @Owner(ExampleClass.class)
+    public interface ExampleProxy {
+
+        @Getter
+        float health(Object instance);
+
+        @Setter
+        void health(Object instance, float health);
+
+        @Invoker("heal")
+        float heal(Object instance, float amount);
+
+        @Invoker
+        String name(Object instance);
+
+        @Getter
+        int count();
+
+        @Getter
+        @TypeName("me.machinemaker.mirror.ProxyTest$OtherClass")
+        OtherClass other(Object instance);
+
+        @Invoker("fail")
+        void fail(Object instance);
+
+        default float healthOrZero(final Object instance) {
+            return Math.max(this.health(instance), 0);
+        }
+    }
+
+    @Owner(ExampleClass.class)
+    public interface InvalidProxy {
+
+        @Getter
+        float health(Object instance, int extra);
+    }
+
+    static class ExampleClass {
+
+        private static int count = 2;
+
+        private float health = 20.0F;
+        private final OtherClass other = new OtherClass();
+
+        private float heal(final float amount) {
+            this.health += amount;
+            return this.health;
+        }
+
+        private void fail() {
+            throw new UnsupportedOperationException();
+        }
+
+        private String name() {
+            return "example";
+        }
+    }
+
+    static class OtherClass {
+
+        final String value = "other";
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolutionCacheTest {
+
+    private static final int PRESSURE_CHUNK = 1 << 20;
+
+    @Test
+    void testRepeatedMethodQuery() {
+        final MethodHandle first = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).find();
+        final MethodHandle second = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).find();
+        assertSame(first, second);
+
+        final MethodHandle other = Mirror.fuzzyMethod(ExampleClass.class, String.class).find();
+        assertNotSame(first, other);
+    }
+
+    @Test
+    void testRepeatedFieldQuery() {
+        final MethodHandle getter = Mirror.fuzzyField(ExampleClass.class, int.class).find(FuzzyFieldFinder.Type.GETTER);
+        assertSame(getter, Mirror.fuzzyField(ExampleClass.class, int.class).find(FuzzyFieldFinder.Type.GETTER));
+
+        final MethodHandle setter = Mirror.fuzzyField(ExampleClass.class, int.class).find(FuzzyFieldFinder.Type.SETTER);
+        assertNotSame(getter, setter);
+        assertSame(setter, Mirror.fuzzyField(ExampleClass.class, int.class).find(FuzzyFieldFinder.Type.SETTER));
+    }
+
+    @Test
+    void testQueriesResolvingToSameMember() {
+        final MethodHandle unnamed = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).find();
+        final MethodHandle named = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).names("repeat").find();
+        assertSame(unnamed, named);
+    }
+
+    @Test
+    void testListenerResolvingSameOwner() {
+        final Consumer<ResolutionEvent> listener = event -> {
+            if (event.member() != null && event.member().getName().equals("repeat")) {
+                Mirror.fuzzyMethod(ListenerExample.class, String.class).find();
+            }
+        };
+        Mirror.addResolutionListener(listener);
+        try {
+            final MethodHandle handle = Mirror.fuzzyMethod(ListenerExample.class, String.class).params(int.class).find();
+            assertSame(handle, Mirror.fuzzyMethod(ListenerExample.class, String.class).params(int.class).find());
+        } finally {
+            Mirror.removeResolutionListener(listener);
+        }
+    }
+
+    @Test
+    void testChildLoaderIsCollected() throws Exception {
+        final WeakReference<ClassLoader> loader = this.resolveInChild(ExampleClass.class.getName());
+        assertCollected(loader);
+    }
+
+    @Test
+    void testMirrorLoaderIsCollected() throws Exception {
+        // mirror itself in a child loader, resolving against a class of its parent
+        final WeakReference<ClassLoader> loader = this.resolveInChild(Resolver.class.getName(), "me.machinemaker.mirror.");
+        assertCollected(loader);
+    }
+
+    @Test
+    void testForeignLoaderIsCollected() throws Exception {
+        // a loader that doesn't delegate to mirror's, like another plugin's
+        final WeakReference<ClassLoader> loader = this.resolveInForeign();
+        assertCollected(loader);
+    }
+
+    private WeakReference<ClassLoader> resolveInForeign() throws Exception {
+        final URLClassLoader loader = new URLClassLoader(ChildFirstLoader.classPath(), ClassLoader.getPlatformClassLoader());
+        final Class<?> type = loader.loadClass(ExampleClass.class.getName());
+        assertFalse(ScopedClassValue.isScoped(type));
+        Mirror.fuzzyMethod(type, String.class).params(int.class).find();
+        Mirror.fuzzyField(type, int.class).find(FuzzyFieldFinder.Type.GETTER);
+        return new WeakReference<>(loader);
+    }
+
+    private WeakReference<ClassLoader> resolveInChild(final String name, final String... prefixes) throws Exception {
+        final ChildFirstLoader loader = new ChildFirstLoader(name, prefixes);
+        final Class<?> type = loader.loadClass(name);
+        assertSame(loader, type.getClassLoader());
+        if (prefixes.length == 0) {
+            assertTrue(ScopedClassValue.isScoped(type));
+            Mirror.fuzzyMethod(type, String.class).params(int.class).find();
+            Mirror.fuzzyField(type, int.class).find(FuzzyFieldFinder.Type.GETTER);
+        } else {
+            ((Runnable) type.getConstructor().newInstance()).run();
+        }
+        return new WeakReference<>(loader);
+    }
+
+    private static void assertCollected(final WeakReference<ClassLoader> loader) throws InterruptedException {
+        for (int i = 0; i < 50 && loader.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        // the JDK softly caches the handles behind record methods, which may still reference the loader
+        final List<long[]> pressure = new ArrayList<>();
+        try {
+            while (loader.get() != null) {
+                pressure.add(new long[PRESSURE_CHUNK]);
+            }
+        } catch (final OutOfMemoryError ignored) {
+            // all soft references are cleared before this is thrown
+        }
+        pressure.clear();
+        System.gc();
+        assertNull(loader.get());
+    }
+
+    public static class Resolver implements Runnable {
+
+        @Override
+        public void run() {
+            // the class is package-private in another runtime package from here
+            final Class<?> owner = Mirror.getClass(ResolutionCacheTest.class.getName() + "$ExampleClass");
+            Mirror.fuzzyMethod(owner, String.class).params(int.class).find();
+            Mirror.fuzzyField(owner, int.class).find(FuzzyFieldFinder.Type.GETTER);
+        }
+    }
+
+    /**
+     * Defines the given class, and any class starting with one of the
+     * prefixes, itself instead of asking its parent first.
+     */
+    private static final class ChildFirstLoader extends URLClassLoader {
+
+        private final String name;
+        private final String[] prefixes;
+
+        private ChildFirstLoader(final String name, final String... prefixes) throws MalformedURLException {
+            super(classPath(), ResolutionCacheTest.class.getClassLoader());
+            this.name = name;
+            this.prefixes = prefixes;
+        }
+
+        private static URL[] classPath() throws MalformedURLException {
+            final List<URL> urls = new ArrayList<>();
+            for (final String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                urls.add(new File(entry).toURI().toURL());
+            }
+            return urls.toArray(URL[]::new);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String className, final boolean resolve) throws ClassNotFoundException {
+            if (!this.isChildFirst(className)) {
+                return super.loadClass(className, resolve);
+            }
+            synchronized (this.getClassLoadingLock(className)) {
+                final Class<?> loaded = this.findLoadedClass(className);
+                return loaded != null ? loaded : this.findClass(className);
+            }
+        }
+
+        private boolean isChildFirst(final String className) {
+            if (className.equals(this.name)) {
+                return true;
+            }
+            for (final String prefix : this.prefixes) {
+                if (className.startsWith(prefix) && !className.startsWith(ExampleClass.class.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static class ListenerExample {
+
+        private String repeat(final int times) {
+            return "b".repeat(times);
+        }
+
+        private String name() {
+            return "listener";
+        }
+    }
+
+    static class ExampleClass {
+
+        private int value;
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+
+        private String name() {
+            return "example";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolutionReportTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReport() throws Exception {
+        final ResolutionReport report = Mirror.startResolutionReport();
+        try (report) {
+            Mirror.fuzzyField(Target.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyField(Target.class, int.class).names("second").find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyMethod(Target.class, Object.class).find();
+            assertThrows(IllegalArgumentException.class, () -> Mirror.fuzzyField(Target.class, long.class).find(FuzzyFieldFinder.Type.GETTER));
+        } finally {
+            Mirror.disableMetrics();
+        }
+        Mirror.fuzzyField(Target.class, double.class).find(FuzzyFieldFinder.Type.GETTER);
+
+        final List<ResolutionReport.Entry> entries = report.entries().stream().filter(entry -> entry.owner() == Target.class).toList();
+        assertEquals(4, entries.size());
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue(entries.get(i - 1).nanos() >= entries.get(i).nanos());
+        }
+        final ResolutionReport.Entry byName = entries.stream().filter(entry -> entry.path() == ResolutionEvent.Path.BY_NAME).findFirst().orElseThrow();
+        assertEquals(2, byName.candidates());
+        assertEquals(4, byName.membersScanned());
+        assertEquals(1, byName.classesScanned());
+
+        final String summary = report.summary();
+        assertTrue(summary.contains("Picked by name from several candidates (1):"));
+        assertTrue(summary.contains("Matched only through an assignable return type (1):"));
+        assertTrue(summary.contains("Failed (1):"));
+
+        final Path file = this.dir.resolve("report.txt");
+        report.write(file);
+        assertEquals(summary, Files.readString(file));
+    }
+
+    @Test
+    void testInheritedScan() {
+        final ResolutionReport report = Mirror.startResolutionReport();
+        try (report) {
+            Mirror.fuzzyField(Child.class, long.class).inherited().find(FuzzyFieldFinder.Type.GETTER);
+            Mirror.fuzzyField(Child.class, String.class).find(FuzzyFieldFinder.Type.GETTER);
+        }
+
+        final List<ResolutionReport.Entry> entries = report.entries().stream().filter(entry -> entry.owner() == Child.class).toList();
+        assertEquals(2, entries.size());
+        final ResolutionReport.Entry inherited = entries.stream().filter(entry -> entry.member() != null && entry.member().getName().equals("id")).findFirst().orElseThrow();
+        assertEquals(2, inherited.classesScanned());
+        assertEquals(2, inherited.membersScanned());
+        final ResolutionReport.Entry own = entries.stream().filter(entry -> entry.member() != null && entry.member().getName().equals("label")).findFirst().orElseThrow();
+        assertEquals(1, own.classesScanned());
+        assertEquals(1, own.membersScanned());
+    }
+
+    static class Parent {
+        private long id;
+    }
+
+    static final class Child extends Parent {
+        private String label = "";
+    }
+
+    static final class Target {
+        private String name = "";
+        private int first;
+        private int second;
+        private double ignored;
+
+        private String value() {
+            return this.name;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.util.List;
+import me.machinemaker.mirror.testing.DefiningLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResolveAllTest {
+
+    @Test
+    void testResolveAll() {
+        final FuzzyMethodFinder method = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class);
+        final FuzzyFieldFinder field = Mirror.fuzzyField(ExampleClass.class, int.class);
+        final FuzzyFieldFinder other = Mirror.fuzzyField(OtherClass.class, long.class);
+
+        final Resolution resolution = Mirror.resolveAll(List.of(method, field, other));
+        assertTrue(resolution.successful());
+        assertEquals(List.of(method, field, other), resolution.resolved());
+        assertSame(resolution, resolution.orThrow());
+        assertSame(method.find(), Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).find());
+    }
+
+    @Test
+    void testFailuresReportedTogether() {
+        final FuzzyMethodFinder missing = Mirror.fuzzyMethod(ExampleClass.class, double.class);
+        final FuzzyFieldFinder found = Mirror.fuzzyField(OtherClass.class, long.class);
+        final FuzzyFieldFinder ambiguous = Mirror.fuzzyField(OtherClass.class, String.class);
+
+        final Resolution resolution = Mirror.resolveAll(List.of(missing, found, ambiguous));
+        assertFalse(resolution.successful());
+        assertEquals(List.of(found), resolution.resolved());
+        assertEquals(2, resolution.failures().size());
+        assertSame(missing, resolution.failures().get(0).finder());
+        assertSame(ambiguous, resolution.failures().get(1).finder());
+
+        final IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, resolution::orThrow);
+        assertEquals(2, ex.getSuppressed().length);
+    }
+
+    @Test
+    void testLinkageErrorsReportedAsFailures() throws ClassNotFoundException {
+        final Class<?> broken = new DefiningLoader(BrokenClass.class, MissingClass.class).loadClass(BrokenClass.class.getName());
+        final FuzzyFieldFinder failing = Mirror.fuzzyField(broken, int.class);
+        final FuzzyFieldFinder found = Mirror.fuzzyField(OtherClass.class, long.class);
+
+        final Resolution resolution = Mirror.resolveAll(List.of(failing, found));
+        assertEquals(List.of(found), resolution.resolved());
+        assertEquals(1, resolution.failures().size());
+        assertInstanceOf(NoClassDefFoundError.class, resolution.failures().get(0).cause());
+    }
+
+    @Test
+    void testOwnFieldFinders() {
+        final FuzzyFieldFinder found = new OwnFieldFinder(true);
+        final FuzzyFieldFinder missing = new OwnFieldFinder(false);
+
+        final Resolution resolution = Mirror.resolveAll(List.of(found, missing));
+        assertEquals(List.of(found), resolution.resolved());
+        assertSame(missing, resolution.failures().get(0).finder());
+        assertEquals(1, resolution.failures().size());
+    }
+
+    static class ExampleClass {
+
+        private int value;
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+    }
+
+    static class OtherClass {
+
+        private long id;
+        private String first;
+        private String second;
+    }
+
+    static class MissingClass {
+    }
+
+    static class BrokenClass {
+
+        private int value;
+        private MissingClass missing;
+    }
+
+    /**
+     * A field finder implemented outside of mirror.
+     */
+    record OwnFieldFinder(boolean exists) implements FuzzyFieldFinder {
+
+        @Override
+        public Class<?> owner() {
+            return OtherClass.class;
+        }
+
+        @Override
+        public Class<?> fieldType() {
+            return long.class;
+        }
+
+        @Override
+        public FuzzyFieldFinder names(final String... names) {
+            return this;
+        }
+
+        @Override
+        public MethodHandle find(final Type accessType) {
+            if (!this.exists) {
+                throw new IllegalArgumentException("Could not find a field with " + this);
+            }
+            return Mirror.fuzzyField(OtherClass.class, long.class).find(accessType);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnapshotCodecTest {
+
+    @Test
+    void testRoundTrip() throws ReflectiveOperationException {
+        final SnapshotCodec<ExampleClass> codec = Mirror.snapshotCodec(ExampleClass.class)
+                .field(ExampleClass.class.getDeclaredField("x"))
+                .field(Mirror.fuzzyField(ExampleClass.class, float.class))
+                .field(ExampleClass.class.getDeclaredField("alive"))
+                .field(ExampleClass.class.getDeclaredField("flags"))
+                .field(Base.class.getDeclaredField("id"))
+                .build();
+        assertEquals(Double.BYTES + Float.BYTES + 1 + Short.BYTES + Long.BYTES, codec.size());
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(codec.size() * 2).order(ByteOrder.nativeOrder());
+        final ExampleClass first = new ExampleClass(1.5D, 20.0F, true, (short) 3, 11L);
+        final ExampleClass second = new ExampleClass(-4.0D, 0.5F, false, (short) -1, 12L);
+        codec.write(first, buffer);
+        codec.write(second, buffer);
+        assertEquals(codec.size() * 2, buffer.position());
+
+        buffer.flip();
+        final ExampleClass restored = new ExampleClass(0, 0, false, (short) 0, 0);
+        codec.read(buffer, restored);
+        assertEquals(first, restored);
+        codec.read(buffer, restored);
+        assertEquals(second, restored);
+
+        codec.read(buffer, 0, restored);
+        assertEquals(first, restored);
+    }
+
+    @Test
+    void testInvalidFields() {
+        assertThrows(IllegalArgumentException.class, () -> Mirror.snapshotCodec(ExampleClass.class).field(ExampleClass.class.getDeclaredField("name")));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.snapshotCodec(Base.class).field(ExampleClass.class.getDeclaredField("x")));
+        assertThrows(IllegalArgumentException.class, () -> Mirror.snapshotCodec(ExampleClass.class).build());
+    }
+
+    @Test
+    void testBufferTooSmall() throws ReflectiveOperationException {
+        final SnapshotCodec<ExampleClass> codec = Mirror.snapshotCodec(ExampleClass.class).field(ExampleClass.class.getDeclaredField("x")).build();
+        final ExampleClass example = new ExampleClass(1, 1, true, (short) 1, 1);
+        assertThrows(IndexOutOfBoundsException.class, () -> codec.write(example, ByteBuffer.allocate(Double.BYTES - 1)));
+        assertTrue(codec.toString().contains(ExampleClass.class.getName()));
+    }
+
+    static class Base {
+
+        long id;
+    }
+
+    static class ExampleClass extends Base {
+
+        private final String name = "example";
+        private double x;
+        private float health;
+        private boolean alive;
+        private short flags;
+
+        ExampleClass(final double x, final float health, final boolean alive, final short flags, final long id) {
+            this.x = x;
+            this.health = health;
+            this.alive = alive;
+            this.flags = flags;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof final ExampleClass other && this.x == other.x && this.health == other.health
+                    && this.alive == other.alive && this.flags == other.flags && this.id == other.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(this.x);
+        }
+    }
+}
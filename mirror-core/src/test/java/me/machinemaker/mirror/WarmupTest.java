@@ -0,0 +1,126 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+import me.machinemaker.mirror.testing.DefiningLoader;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WarmupTest {
+
+    private static volatile boolean initialized;
+
+    @Test
+    void testWarmupHolder() throws Exception {
+        final Resolution resolution = Mirror.warmup(Holder.class, WarmupOptions.defaults().invocations(10).sample(new ExampleClass())).get(10, TimeUnit.SECONDS);
+        assertEquals(3, resolution.resolved().size());
+        assertEquals(1, resolution.failures().size());
+        assertEquals(double.class, ((FuzzyMethodFinder) resolution.failures().get(0).finder()).returnType());
+    }
+
+    @Test
+    void testWarmupInstance() throws Throwable {
+        final InstanceHolder holder = new InstanceHolder();
+        final Resolution resolution = Mirror.warmup(holder).get(10, TimeUnit.SECONDS);
+        resolution.orThrow();
+        assertEquals(1, resolution.resolved().size());
+        assertEquals("aa", (String) holder.repeat.invokeExact((Object) new ExampleClass(), 2));
+    }
+
+    @Test
+    void testErrorOnlyFailsItsTarget() throws Exception {
+        final Class<?> broken = new DefiningLoader(ResolveAllTest.BrokenClass.class, ResolveAllTest.MissingClass.class).loadClass(ResolveAllTest.BrokenClass.class.getName());
+        final Resolution resolution = Mirror.warmup(new ErrorHolder(broken), WarmupOptions.defaults().parallelism(1)).get(10, TimeUnit.SECONDS);
+        assertEquals(1, resolution.resolved().size());
+        assertEquals(1, resolution.failures().size());
+        assertInstanceOf(NoClassDefFoundError.class, resolution.failures().get(0).cause());
+    }
+
+    @Test
+    void testStaticLazyGetterCalledWithoutSample() throws Exception {
+        final StaticHolder holder = new StaticHolder();
+        Mirror.warmup(holder, WarmupOptions.defaults().invocations(1)).get(10, TimeUnit.SECONDS).orThrow();
+        assertTrue(initialized);
+    }
+
+    @Test
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> WarmupOptions.defaults().parallelism(0));
+        assertThrows(IllegalArgumentException.class, () -> WarmupOptions.defaults().invocations(-1));
+    }
+
+    static final class Holder {
+
+        static final MethodHandle REPEAT = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).lazy();
+        static final MethodHandle VALUE = Mirror.fuzzyField(ExampleClass.class, int.class).lazy(FuzzyFieldFinder.Type.GETTER);
+        static final FuzzyFieldFinder NAME = Mirror.fuzzyField(ExampleClass.class, String.class);
+        static final MethodHandle MISSING = Mirror.fuzzyMethod(ExampleClass.class, double.class).lazy();
+        static final String IGNORED = "ignored";
+
+        private Holder() {
+        }
+    }
+
+    static final class ErrorHolder {
+
+        final FuzzyFieldFinder broken;
+        final FuzzyFieldFinder name = Mirror.fuzzyField(ExampleClass.class, String.class);
+
+        ErrorHolder(final Class<?> broken) {
+            this.broken = Mirror.fuzzyField(broken, int.class);
+        }
+    }
+
+    static final class StaticHolder {
+
+        final MethodHandle count = Mirror.fuzzyField(Initialized.class, int.class).lazy(FuzzyFieldFinder.Type.GETTER);
+    }
+
+    static final class InstanceHolder {
+
+        final MethodHandle repeat = Mirror.fuzzyMethod(ExampleClass.class, String.class).params(int.class).lazy();
+    }
+
+    static class Initialized {
+
+        private static int count;
+
+        static {
+            initialized = true;
+        }
+    }
+
+    static class ExampleClass {
+
+        private static final String NAME = "static";
+
+        private int value = 3;
+
+        private String repeat(final int times) {
+            return "a".repeat(times);
+        }
+    }
+}
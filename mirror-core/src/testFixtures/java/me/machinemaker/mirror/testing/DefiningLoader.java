@@ -0,0 +1,90 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.testing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Defines one class itself from its parent's class file, instead of
+ * delegating to the parent, so the class can be given another code source
+ * or linked against classes the loader hides.
+ */
+public final class DefiningLoader extends ClassLoader {
+
+    private final String defined;
+    private final ProtectionDomain domain;
+    private final Set<String> hidden;
+
+    /**
+     * Creates a loader that defines a class with the same code source it
+     * was loaded with.
+     *
+     * @param defined the class to define again
+     * @param hidden classes that can't be loaded from this loader
+     */
+    public DefiningLoader(final Class<?> defined, final Class<?>... hidden) {
+        this(defined, defined.getProtectionDomain().getCodeSource(), hidden);
+    }
+
+    /**
+     * Creates a loader that defines a class as if it came from another
+     * code source.
+     *
+     * @param defined the class to define again
+     * @param source the code source to define it with
+     * @param hidden classes that can't be loaded from this loader
+     */
+    public DefiningLoader(final Class<?> defined, final CodeSource source, final Class<?>... hidden) {
+        super(defined.getClassLoader());
+        this.defined = defined.getName();
+        this.domain = new ProtectionDomain(source, null);
+        this.hidden = Arrays.stream(hidden).map(Class::getName).collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+        if (this.hidden.contains(name)) {
+            throw new ClassNotFoundException(name);
+        } else if (!name.equals(this.defined)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (this.getClassLoadingLock(name)) {
+            final Class<?> loaded = this.findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            try (InputStream in = this.getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = in.readAllBytes();
+                return this.defineClass(name, bytes, 0, bytes.length, this.domain);
+            } catch (final IOException ex) {
+                throw new ClassNotFoundException(name, ex);
+            }
+        }
+    }
+}
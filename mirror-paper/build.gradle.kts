@@ -10,4 +10,7 @@ repositories {
 dependencies {
     api(project(":mirror-core"))
     compileOnly(libs.paper)
+
+    testImplementation(testFixtures(project(":mirror-core")))
+    testImplementation(libs.paper)
 }
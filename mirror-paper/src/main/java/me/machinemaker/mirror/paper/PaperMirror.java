@@ -19,12 +19,16 @@
  */
 package me.machinemaker.mirror.paper;
 
+import java.lang.invoke.MethodHandle;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Supplier;
+import me.machinemaker.mirror.FieldAccessor;
+import me.machinemaker.mirror.FuzzyMethodFinder;
 import me.machinemaker.mirror.Mirror;
 import me.machinemaker.mirror.util.CheckedSupplier;
 import org.bukkit.Bukkit;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import static com.google.common.base.Suppliers.memoize;
 import static me.machinemaker.mirror.util.CheckedSupplier.checkedMemoize;
@@ -37,9 +41,11 @@ public final class PaperMirror {
     @SuppressWarnings("OptionalOfNullableMisuse")
     public static final String OBC_PREFIX = Optional.ofNullable(Bukkit.getServer()).map(s -> s.getClass().getPackage().getName()).orElse("org.bukkit.craftbukkit");
     public static final String NMS_PREFIX = "net.minecraft";
+    private static final String UNVERSIONED_OBC_PREFIX = "org.bukkit.craftbukkit";
 
     private static final Supplier<Class<?>> CRAFT_SERVER_CLASS = memoize(() -> Bukkit.getServer().getClass());
     private static final Supplier<Object> CRAFT_SERVER = memoize(Bukkit::getServer);
+    private static final Supplier<ServerClassIndex> CLASS_INDEX = memoize(PaperMirror::scanServerClasses);
 
     private static final Supplier<Class<?>> MINECRAFT_SERVER_CLASS = memoize(() -> findMinecraftClass("server.MinecraftServer"));
     private static final CheckedSupplier<Object, Throwable> MINECRAFT_SERVER = checkedMemoize(() -> Mirror.fuzzyMethod(minecraftServerClass(), minecraftServerClass()).names("getServer").find().invoke());
@@ -68,6 +74,28 @@ public final class PaperMirror {
         return CRAFT_SERVER.get();
     }
 
+    /**
+     * Bind a method of the CraftServer to the CraftServer instance.
+     *
+     * @param finder a finder for a method of the CraftServer
+     * @return the method handle, bound to the CraftServer instance
+     * @see FuzzyMethodFinder#findBound(Object)
+     */
+    public static MethodHandle bindToCraftServer(final FuzzyMethodFinder finder) {
+        return finder.findBound(craftServer());
+    }
+
+    /**
+     * Bind an accessor for a field of the CraftServer to the CraftServer instance.
+     *
+     * @param accessor an accessor for a field of the CraftServer
+     * @return the accessor, bound to the CraftServer instance
+     * @see FieldAccessor#bindTo(Object)
+     */
+    public static FieldAccessor.Bound bindToCraftServer(final FieldAccessor accessor) {
+        return accessor.bindTo(craftServer());
+    }
+
     /**
      * Retrieve the MinecraftServer class.
      *
@@ -87,6 +115,30 @@ public final class PaperMirror {
         return MINECRAFT_SERVER.get();
     }
 
+    /**
+     * Bind a method of the MinecraftServer to the MinecraftServer instance.
+     *
+     * @param finder a finder for a method of the MinecraftServer
+     * @return the method handle, bound to the MinecraftServer instance
+     * @throws Throwable if retrieving the MinecraftServer instance fails
+     * @see FuzzyMethodFinder#findBound(Object)
+     */
+    public static MethodHandle bindToMinecraftServer(final FuzzyMethodFinder finder) throws Throwable {
+        return finder.findBound(minecraftServer());
+    }
+
+    /**
+     * Bind an accessor for a field of the MinecraftServer to the MinecraftServer instance.
+     *
+     * @param accessor an accessor for a field of the MinecraftServer
+     * @return the accessor, bound to the MinecraftServer instance
+     * @throws Throwable if retrieving the MinecraftServer instance fails
+     * @see FieldAccessor#bindTo(Object)
+     */
+    public static FieldAccessor.Bound bindToMinecraftServer(final FieldAccessor accessor) throws Throwable {
+        return accessor.bindTo(minecraftServer());
+    }
+
     /**
      * Retrieve the PlayerList class.
      *
@@ -106,6 +158,43 @@ public final class PaperMirror {
         return PLAYER_LIST.get();
     }
 
+    /**
+     * Bind a method of the PlayerList to the PlayerList instance.
+     *
+     * @param finder a finder for a method of the PlayerList
+     * @return the method handle, bound to the PlayerList instance
+     * @throws Throwable if retrieving the PlayerList instance fails
+     * @see FuzzyMethodFinder#findBound(Object)
+     */
+    public static MethodHandle bindToPlayerList(final FuzzyMethodFinder finder) throws Throwable {
+        return finder.findBound(playerList());
+    }
+
+    /**
+     * Bind an accessor for a field of the PlayerList to the PlayerList instance.
+     *
+     * @param accessor an accessor for a field of the PlayerList
+     * @return the accessor, bound to the PlayerList instance
+     * @throws Throwable if retrieving the PlayerList instance fails
+     * @see FieldAccessor#bindTo(Object)
+     */
+    public static FieldAccessor.Bound bindToPlayerList(final FieldAccessor accessor) throws Throwable {
+        return accessor.bindTo(playerList());
+    }
+
+    /**
+     * Retrieve the index of CraftBukkit and Minecraft classes in the server
+     * jar, which the {@code find*Class} methods resolve names with.
+     * Unversioned {@code org.bukkit.craftbukkit} names are relocated to the
+     * versioned package, if there is one. Without a running server there
+     * is no jar to scan, and every name is looked up instead.
+     *
+     * @return the server class index
+     */
+    public static ServerClassIndex classIndex() {
+        return CLASS_INDEX.get();
+    }
+
     /**
      * Retrieve a class in the org.bukkit.craftbukkit.VERSION.* package.
      *
@@ -125,11 +214,9 @@ public final class PaperMirror {
      * @throws IllegalArgumentException If the class doesn't exist
      */
     public static Class<?> findCraftBukkitClass(final String... names) {
-        for (final String name : names) {
-            try {
-                return getCraftBukkitClass(name);
-            } catch (final IllegalArgumentException ignored) {
-            }
+        final @Nullable Class<?> type = classIndex().find(qualify(OBC_PREFIX, names));
+        if (type != null) {
+            return type;
         }
         throw new IllegalArgumentException("None of " + Arrays.toString(names) + " could be matched to a craftbukkit class");
     }
@@ -153,13 +240,25 @@ public final class PaperMirror {
      * @throws IllegalArgumentException If the none of the names match a class
      */
     public static Class<?> findMinecraftClass(final String... names) {
-        for (final String name : names) {
-            try {
-                return getMinecraftClass(name);
-            } catch (final IllegalArgumentException ignored) {
-            }
+        final @Nullable Class<?> type = classIndex().find(qualify(NMS_PREFIX, names));
+        if (type != null) {
+            return type;
         }
         throw new IllegalArgumentException("None of " + Arrays.toString(names) + " could be matched to a minecraft class");
     }
 
+    private static ServerClassIndex scanServerClasses() {
+        if (Bukkit.getServer() == null) {
+            return ServerClassIndex.unindexed();
+        }
+        return ServerClassIndex.scan(craftServerClass(), OBC_PREFIX, NMS_PREFIX).relocate(UNVERSIONED_OBC_PREFIX, OBC_PREFIX);
+    }
+
+    private static String[] qualify(final String prefix, final String[] names) {
+        final String[] qualified = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            qualified[i] = prefix + "." + names[i];
+        }
+        return qualified;
+    }
 }
@@ -0,0 +1,235 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.paper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import me.machinemaker.mirror.Mirror;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An index of the classes in some packages of the server jar, for
+ * resolving lists of version specific class names without trying to
+ * load each one.
+ *
+ * <p>The jar is scanned once when the index is created. Names that aren't
+ * in the index are misses and never reach {@link Class#forName}, and names
+ * that are go through {@link Mirror#maybeGetClass(String)}. If the classes
+ * can't be scanned, for example when they don't come from a jar or
+ * directory or reading them fails, every name is looked up through {@link Mirror#maybeGetClass(String)}
+ * instead, which caches misses.</p>
+ */
+public final class ServerClassIndex {
+
+    private static final String CLASS_SUFFIX = ".class";
+
+    private final @Nullable Set<String> classes;
+    private final List<Map.Entry<String, String>> relocations;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    private ServerClassIndex(final @Nullable Set<String> classes, final List<Map.Entry<String, String>> relocations, final LongAdder hits, final LongAdder misses) {
+        this.classes = classes;
+        this.relocations = relocations;
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /**
+     * Index the classes in some packages of the jar or directory another
+     * class was loaded from.
+     *
+     * @param anchor a class from the jar or directory to scan
+     * @param packages the packages to index, including their subpackages
+     * @return the index, not {@linkplain #indexed() indexed} if the classes couldn't be scanned
+     */
+    public static ServerClassIndex scan(final Class<?> anchor, final String... packages) {
+        final @Nullable CodeSource source = anchor.getProtectionDomain().getCodeSource();
+        if (source == null) {
+            return unindexed();
+        }
+        final Path location;
+        try {
+            location = Path.of(source.getLocation().toURI());
+        } catch (final URISyntaxException | IllegalArgumentException ex) {
+            return unindexed();
+        }
+        final Set<String> classes = new HashSet<>();
+        try {
+            if (Files.isDirectory(location)) {
+                index(location, packages, classes);
+            } else {
+                try (FileSystem jar = FileSystems.newFileSystem(location)) {
+                    index(jar.getPath("/"), packages, classes);
+                }
+            }
+        } catch (final IOException | UncheckedIOException | ProviderNotFoundException ex) {
+            // not a readable jar or directory, fall back to looking every name up
+            return unindexed();
+        }
+        return new ServerClassIndex(Set.copyOf(classes), List.of(), new LongAdder(), new LongAdder());
+    }
+
+    /**
+     * Creates an index that looks every name up, for when there is nothing
+     * to scan.
+     *
+     * @return an index that isn't {@linkplain #indexed() indexed}
+     */
+    static ServerClassIndex unindexed() {
+        return new ServerClassIndex(null, List.of(), new LongAdder(), new LongAdder());
+    }
+
+    private static void index(final Path root, final String[] packages, final Set<String> classes) throws IOException {
+        for (final String pkg : packages) {
+            Path dir = root;
+            for (final String part : pkg.split("\\.")) {
+                dir = dir.resolve(part);
+            }
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.map(path -> binaryName(root.relativize(path)))
+                        .filter(name -> name.endsWith(CLASS_SUFFIX) && !name.endsWith("-info" + CLASS_SUFFIX))
+                        .map(name -> name.substring(0, name.length() - CLASS_SUFFIX.length()))
+                        .forEach(classes::add);
+            }
+        }
+    }
+
+    private static String binaryName(final Path relative) {
+        // joined by element, a directory's separator isn't always '/'
+        final StringJoiner name = new StringJoiner(".");
+        for (final Path element : relative) {
+            name.add(element.toString());
+        }
+        return name.toString();
+    }
+
+    /**
+     * Copy this index with another relocation rule. Names starting with
+     * {@code from} are looked up starting with {@code to} instead, for
+     * example to map the unversioned CraftBukkit package to a versioned one.
+     * Names already starting with {@code to} are left alone. Rules are tried
+     * in the order they were added, and the first match is used. The copy
+     * shares its statistics with this index.
+     *
+     * @param from the package prefix to replace
+     * @param to the package prefix to replace it with
+     * @return the new index
+     */
+    public ServerClassIndex relocate(final String from, final String to) {
+        final List<Map.Entry<String, String>> relocations = new ArrayList<>(this.relocations);
+        relocations.add(Map.entry(from + ".", to + "."));
+        return new ServerClassIndex(this.classes, List.copyOf(relocations), this.hits, this.misses);
+    }
+
+    /**
+     * Check if a class is in the index, after relocation.
+     *
+     * @param name the binary name of the class
+     * @return true if the class is in the index, or the index couldn't be built and the class exists
+     */
+    public boolean contains(final String name) {
+        return this.find(name) != null;
+    }
+
+    /**
+     * Find the first class from a list of possible names.
+     *
+     * @param names possible binary names, relocated before being looked up
+     * @return the first class found, or null if none are found
+     */
+    public @Nullable Class<?> find(final String... names) {
+        for (final String name : names) {
+            final String relocated = this.relocated(name);
+            final @Nullable Class<?> type = this.classes == null || this.classes.contains(relocated) ? Mirror.maybeGetClass(relocated) : null;
+            if (type != null) {
+                this.hits.increment();
+                return type;
+            }
+            this.misses.increment();
+        }
+        return null;
+    }
+
+    /**
+     * Check if the classes could be scanned.
+     *
+     * @return true if lookups are answered from the index
+     */
+    public boolean indexed() {
+        return this.classes != null;
+    }
+
+    /**
+     * Get the number of classes in the index.
+     *
+     * @return the number of classes, or 0 if the classes couldn't be scanned
+     */
+    public int size() {
+        return this.classes == null ? 0 : this.classes.size();
+    }
+
+    /**
+     * Get the lookup statistics of this index. Every name tried by
+     * {@link #find(String...)} or {@link #contains(String)} counts as a
+     * hit or a miss.
+     *
+     * @return the statistics
+     */
+    public Stats stats() {
+        return new Stats(this.hits.sum(), this.misses.sum());
+    }
+
+    private String relocated(final String name) {
+        for (final Map.Entry<String, String> relocation : this.relocations) {
+            if (name.startsWith(relocation.getKey()) && !name.startsWith(relocation.getValue())) {
+                return relocation.getValue() + name.substring(relocation.getKey().length());
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Lookup statistics for an index.
+     *
+     * @param hits the number of names that were found
+     * @param misses the number of names that weren't found
+     */
+    public record Stats(long hits, long misses) {
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * GNU General Public License v3
+ *
+ * Mirror, a opinionated reflection library
+ *
+ * Copyright (C) 2022 Machine_Maker
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, version 3.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see https://www.gnu.org/licenses/.
+ */
+package me.machinemaker.mirror.paper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.cert.Certificate;
+import me.machinemaker.mirror.testing.DefiningLoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerClassIndexTest {
+
+    private static final String PACKAGE = ServerClassIndexTest.class.getPackageName();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testDirectoryIndex() {
+        final ServerClassIndex index = ServerClassIndex.scan(ServerClassIndexTest.class, PACKAGE);
+        assertTrue(index.indexed());
+        assertTrue(index.size() > 0);
+        assertSame(Anchor.class, index.find("missing.Example", Anchor.class.getName()));
+        assertNull(index.find(PACKAGE + ".Missing"));
+        assertFalse(index.contains(PACKAGE + ".Missing"));
+        assertEquals(new ServerClassIndex.Stats(1, 3), index.stats());
+    }
+
+    @Test
+    void testUnlistedPackage() {
+        final ServerClassIndex index = ServerClassIndex.scan(ServerClassIndexTest.class, "missing.pkg");
+        assertTrue(index.indexed());
+        assertEquals(0, index.size());
+        assertFalse(index.contains(Anchor.class.getName()));
+    }
+
+    @Test
+    void testRelocation() {
+        final ServerClassIndex index = ServerClassIndex.scan(ServerClassIndexTest.class, PACKAGE);
+        final ServerClassIndex relocated = index.relocate("unversioned", PACKAGE);
+        assertSame(Anchor.class, relocated.find("unversioned." + Anchor.class.getName().substring(PACKAGE.length() + 1)));
+        assertSame(Anchor.class, relocated.find(Anchor.class.getName()));
+        assertEquals(relocated.stats(), index.stats());
+        assertEquals(new ServerClassIndex.Stats(2, 0), index.stats());
+    }
+
+    @Test
+    void testUnreadableSource() throws IOException, ClassNotFoundException {
+        final Path jar = Files.writeString(this.dir.resolve("broken.jar"), "not a jar");
+        final Class<?> anchor = new DefiningLoader(Anchor.class, new CodeSource(jar.toUri().toURL(), (Certificate[]) null)).loadClass(Anchor.class.getName());
+        final ServerClassIndex index = ServerClassIndex.scan(anchor, PACKAGE);
+        assertFalse(index.indexed());
+        assertEquals(0, index.size());
+        assertSame(ServerClassIndexTest.class, index.find(ServerClassIndexTest.class.getName()));
+    }
+
+    @Test
+    void testNoServer() {
+        final ServerClassIndex index = PaperMirror.classIndex();
+        assertFalse(index.indexed());
+        assertSame(Anchor.class, index.find(Anchor.class.getName()));
+        assertThrows(IllegalArgumentException.class, () -> PaperMirror.findMinecraftClass("missing.Example"));
+    }
+
+    static class Anchor {
+    }
+}
@@ -5,4 +5,4 @@ pluginManagement {
 }
 
 rootProject.name = "mirror-parent"
-include("mirror-paper", "mirror-core")
+include("mirror-paper", "mirror-core", "mirror-benchmarks")